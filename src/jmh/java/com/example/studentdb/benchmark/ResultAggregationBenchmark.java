@@ -0,0 +1,78 @@
+package com.example.studentdb.benchmark;
+
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.dto.StudentRanking;
+import com.example.studentdb.dto.SubjectMarkDTO;
+import com.example.studentdb.repository.MarkRepository;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.service.RankingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The in-memory side of result listing: attaching subject-wise marks to summaries (the loop in
+ * {@code AdminController.listResults}, here over the whole cohort as an export does it), and
+ * building and reading the {@link RankingService} indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultAggregationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int students;
+
+    private SyntheticCohort cohort;
+    private RankingService rankingService;
+
+    @Setup
+    public void setUp() {
+        cohort = new SyntheticCohort(students);
+        MarkRepository markRepository = mock(MarkRepository.class);
+        when(markRepository.findAllScores()).thenReturn(cohort.scores);
+        rankingService = new RankingService(markRepository, mock(StudentRepository.class));
+        rankingService.rebuild();
+    }
+
+    @Benchmark
+    public List<ResultSummary> attachSubjectMarks() {
+        Map<Long, List<SubjectMarkDTO>> marksByStudent = cohort.subjectMarks.stream()
+                .collect(Collectors.groupingBy(SubjectMarkDTO::getStudentId));
+        for (ResultSummary summary : cohort.summaries) {
+            summary.setMarks(marksByStudent.getOrDefault(summary.getStudentId(), List.of()));
+        }
+        return cohort.summaries;
+    }
+
+    @Benchmark
+    public long rebuildRankings() {
+        rankingService.rebuild();
+        return rankingService.epoch();
+    }
+
+    @Benchmark
+    public StudentRanking rankingForOneStudent() {
+        return rankingService.rankingFor(ThreadLocalRandom.current().nextLong(1, students + 1));
+    }
+}
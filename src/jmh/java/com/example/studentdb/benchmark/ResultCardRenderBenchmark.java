@@ -0,0 +1,61 @@
+package com.example.studentdb.benchmark;
+
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.dto.SubjectMarkDTO;
+import com.example.studentdb.service.ResultCardPdfRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * One result card through {@link ResultCardPdfRenderer}, the body of
+ * {@code /student/results/pdf} after the data is loaded, for a random student of the cohort.
+ * The cost per card does not grow with the cohort; the sizes are there so the numbers line up
+ * with the other benchmarks. Add {@code -prof gc} to {@code jmh.args} to see the allocation per
+ * card, which includes a new {@code Font} for every table cell.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultCardRenderBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int students;
+
+    private List<ResultSummary> summaries;
+    private ResultCardPdfRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        SyntheticCohort cohort = new SyntheticCohort(students);
+        Map<Long, List<SubjectMarkDTO>> marksByStudent = cohort.subjectMarks.stream()
+                .collect(Collectors.groupingBy(SubjectMarkDTO::getStudentId));
+        for (ResultSummary summary : cohort.summaries) {
+            summary.setMarks(marksByStudent.get(summary.getStudentId()));
+        }
+        summaries = cohort.summaries;
+        renderer = new ResultCardPdfRenderer();
+    }
+
+    @Benchmark
+    public byte[] renderResultCard() {
+        return renderer.render(summaries.get(ThreadLocalRandom.current().nextInt(summaries.size())));
+    }
+}
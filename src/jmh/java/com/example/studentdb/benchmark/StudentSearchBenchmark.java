@@ -0,0 +1,89 @@
+package com.example.studentdb.benchmark;
+
+import com.example.studentdb.dto.StudentSuggestion;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.service.StudentSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Keyword search through {@link StudentSearchIndex}: a selective keyword (one roll number), a
+ * common one (a surname shared by a sixteenth of the cohort), a two-character keyword (which
+ * scans) and autocomplete. {@link #linearScan} is the same match done by checking every
+ * student, which is what a {@code LIKE '%keyword%'} query does, for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentSearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int students;
+
+    private List<StudentSuggestion> cohort;
+    private StudentSearchIndex index;
+    private String selective;
+
+    @Setup
+    public void setUp() {
+        cohort = new SyntheticCohort(students).students;
+        StudentRepository studentRepository = mock(StudentRepository.class);
+        when(studentRepository.findAllSuggestions()).thenReturn(cohort);
+        index = new StudentSearchIndex(studentRepository);
+        index.rebuild();
+        selective = cohort.get(students / 2).getRollNumber().toLowerCase(Locale.ROOT);
+    }
+
+    @Benchmark
+    public long[] searchSelective() {
+        return index.search(selective);
+    }
+
+    @Benchmark
+    public long[] searchCommon() {
+        return index.search("gupta");
+    }
+
+    @Benchmark
+    public long[] searchShort() {
+        return index.search("ro");
+    }
+
+    @Benchmark
+    public List<StudentSuggestion> suggest() {
+        return index.suggest("aar", 10);
+    }
+
+    @Benchmark
+    public long linearScan() {
+        String needle = "gupta";
+        long matches = 0;
+        for (StudentSuggestion student : cohort) {
+            if (student.getName().toLowerCase(Locale.ROOT).contains(needle)
+                    || student.getEmail().toLowerCase(Locale.ROOT).contains(needle)
+                    || student.getRollNumber().toLowerCase(Locale.ROOT).contains(needle)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
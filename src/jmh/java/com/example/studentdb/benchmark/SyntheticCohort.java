@@ -0,0 +1,59 @@
+package com.example.studentdb.benchmark;
+
+import com.example.studentdb.dto.MarkScore;
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.dto.StudentSuggestion;
+import com.example.studentdb.dto.SubjectMarkDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic students for the benchmarks: names drawn from small pools (so
+ * trigrams repeat the way real names do), five subjects each, marks 0-100.
+ */
+final class SyntheticCohort {
+
+    static final String[] SUBJECTS = {"Mathematics", "Physics", "Chemistry", "English", "Computer Science"};
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Ananya", "Arjun", "Diya", "Ishaan", "Kavya", "Neha",
+            "Pratyush", "Riya", "Rohan", "Saanvi", "Siddharth", "Sneha", "Vihaan", "Zara", "Aditya", "Meera",
+            "Kabir", "Tara", "Yash"};
+    private static final String[] LAST_NAMES = {"Gupta", "Sharma", "Banerjee", "Chatterjee", "Das", "Sen",
+            "Mukherjee", "Roy", "Bose", "Iyer", "Nair", "Patel", "Singh", "Verma", "Khan", "Ghosh"};
+
+    final List<StudentSuggestion> students;
+    final List<ResultSummary> summaries;
+    final List<SubjectMarkDTO> subjectMarks;
+    final List<MarkScore> scores;
+
+    SyntheticCohort(int size) {
+        Random random = new Random(42);
+        students = new ArrayList<>(size);
+        summaries = new ArrayList<>(size);
+        subjectMarks = new ArrayList<>(size * SUBJECTS.length);
+        scores = new ArrayList<>(size * SUBJECTS.length);
+
+        for (int i = 0; i < size; i++) {
+            long id = i + 1;
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String name = first + " " + last;
+            String email = first.toLowerCase() + "." + last.toLowerCase() + id + "@srms.test";
+            String rollNumber = String.format("TIU-%06d", id);
+            students.add(new StudentSuggestion(id, name, email, rollNumber));
+
+            long total = 0;
+            int min = Integer.MAX_VALUE;
+            for (int s = 0; s < SUBJECTS.length; s++) {
+                int marks = random.nextInt(101);
+                total += marks;
+                min = Math.min(min, marks);
+                subjectMarks.add(new SubjectMarkDTO(id, (long) s + 1, SUBJECTS[s], marks));
+                scores.add(new MarkScore(id, (long) s + 1, marks));
+            }
+            summaries.add(new ResultSummary(id, name, email, rollNumber, total, (long) SUBJECTS.length, min));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.studentdb.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets at most a fixed number of connections be checked out at once; further callers wait, in
+ * arrival order, on a semaphore.
+ * <p>
+ * Sized to the connection pool it wraps. With virtual threads every request gets its own
+ * thread, so thousands can ask for a connection together; they park here cheaply instead of
+ * crowding the pool, and one still waiting after the pool's connection timeout fails the way
+ * the pool itself would. Each permit is returned when its connection is closed.
+ * <p>
+ * The two waits add up: a caller can wait the full timeout here and then, once it has a permit,
+ * the pool's own connection timeout again, because a {@link DataSource} cannot be handed what is
+ * left of the first wait. Permits never exceed the pool size, so a permit holder normally finds an
+ * idle connection at once; the pool only makes it wait while connections are being replaced or
+ * the database is unreachable. Clients should allow twice the connection timeout in that case.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource implements Closeable {
+
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public ConcurrencyLimitingDataSource(DataSource target, int maxConcurrency, long timeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    // Threads currently waiting for a permit (an estimate, as Semaphore reports it)
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    // Lets the container's inferred destroy method shut the wrapped pool down
+    @Override
+    public void close() throws IOException {
+        if (obtainTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No database connection became available within " + timeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            connection.close();
+                        } finally {
+                            // A second close is a no-op for the pool, so it must not free a permit either
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.studentdb.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Puts a {@link ConcurrencyLimitingDataSource} in front of the Hikari pool when
+ * {@code srms.db.limit-concurrency=true} (set by the vthreads profile). The limit is the pool's
+ * maximum size and the wait its connection timeout, so both follow the
+ * {@code spring.datasource.hikari.*} settings.
+ */
+@Configuration
+@ConditionalOnProperty(name = "srms.db.limit-concurrency", havingValue = "true")
+public class DatabaseConcurrencyConfig {
+
+    // Static, so registering the post-processor does not create this configuration early
+    @Bean
+    static BeanPostProcessor databaseConcurrencyLimiter() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConcurrencyLimitingDataSource(hikari, hikari.getMaximumPoolSize(),
+                            hikari.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Next to Hikari's own hikaricp.connections.* gauges: permits left and callers queued before the pool
+    @Bean
+    public MeterBinder databaseConcurrencyLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitingDataSource limiter) {
+                Gauge.builder("srms.db.limiter.available", limiter, ConcurrencyLimitingDataSource::getAvailablePermits)
+                        .description("Connections that may still be checked out")
+                        .register(registry);
+                Gauge.builder("srms.db.limiter.waiting", limiter, ConcurrencyLimitingDataSource::getQueueLength)
+                        .description("Callers waiting for a connection permit")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.studentdb.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // spring.threads.virtual.enabled on Java 21+ (the vthreads profile); always false on older JDKs
+    private final boolean virtualThreads;
+
+    public ExecutorConfig(Environment environment) {
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    // BCrypt is pure CPU: one thread per core. When the queue is full a task is rejected rather than
+    // run by the caller, which for a single save would be a Tomcat thread.
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("pwd-hash-");
+        return executor;
+    }
+
+    // Result-card rendering for bulk exports; callers bound how many cards are in flight.
+    // On virtual threads the pool size still caps concurrent renders, which are CPU-bound.
+    @Bean
+    public ThreadPoolTaskExecutor pdfRenderExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("pdf-render-");
+        executor.setVirtualThreads(virtualThreads);
+        return executor;
+    }
+
+    // Queued single result-card downloads (ResultPdfJobService). A bounded queue with the default
+    // abort policy: when it is full the request is turned away with Retry-After instead of waiting.
+    @Bean
+    public ThreadPoolTaskExecutor pdfJobExecutor(@Value("${srms.pdf-jobs.queue-capacity:200}") int queueCapacity) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("pdf-job-");
+        executor.setVirtualThreads(virtualThreads);
+        return executor;
+    }
+
+    // Runs long bulk jobs (onboarding, archival) off the request threads
+    @Bean
+    public ThreadPoolTaskExecutor bulkJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("bulk-job-");
+        executor.setVirtualThreads(virtualThreads);
+        return executor;
+    }
+}
@@ -1,21 +1,81 @@
 package com.example.studentdb.controller;
 
-import com.example.studentdb.dto.StudentResultDTO;
+import com.example.studentdb.dto.BulkJobStatus;
+import com.example.studentdb.dto.CacheRegionStats;
+import com.example.studentdb.dto.CacheStats;
+import com.example.studentdb.dto.CohortArchiveRequest;
+import com.example.studentdb.dto.LeaderboardEntry;
+import com.example.studentdb.dto.MarkScore;
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.dto.StudentOnboardingRow;
+import com.example.studentdb.dto.StudentSuggestion;
+import com.example.studentdb.dto.SubjectMarkDTO;
+import com.example.studentdb.dto.SubjectStatistics;
+import com.example.studentdb.dto.SubjectSuggestion;
 import com.example.studentdb.entity.Mark;
 import com.example.studentdb.entity.Student;
 import com.example.studentdb.entity.Subject;
-import com.example.studentdb.entity.User;
+import com.example.studentdb.event.StudentDataChangedEvent;
 import com.example.studentdb.repository.MarkRepository;
 import com.example.studentdb.repository.StudentRepository;
 import com.example.studentdb.repository.SubjectRepository;
 import com.example.studentdb.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.example.studentdb.service.MarkImportService;
+import com.example.studentdb.service.BoundedUserCache;
+import com.example.studentdb.service.CohortArchiveService;
+import com.example.studentdb.service.MarkGridService;
+import com.example.studentdb.service.MarkService;
+import com.example.studentdb.service.RankingService;
+import com.example.studentdb.service.ResultCardExportService;
+import com.example.studentdb.service.ResultPdfCache;
+import com.example.studentdb.service.ResultSummaryService;
+import com.example.studentdb.service.ResultsPageCache;
+import com.example.studentdb.service.StudentDataVersions;
+import com.example.studentdb.service.StudentJsonService;
+import com.example.studentdb.service.StudentOnboardingService;
+import com.example.studentdb.service.StudentSearchIndex;
+import com.example.studentdb.service.SubjectStatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.ArrayList;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/admin")
@@ -23,20 +83,74 @@ public class AdminController {
 
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
     private final SubjectRepository subjectRepository;
     private final MarkRepository markRepository;
+    private final MarkService markService;
+    private final MarkImportService markImportService;
+    private final MarkGridService markGridService;
+    private final StudentOnboardingService studentOnboardingService;
+    private final CohortArchiveService cohortArchiveService;
+    private final ResultPdfCache resultPdfCache;
+    private final ResultCardExportService resultCardExportService;
+    private final ResultSummaryService resultSummaryService;
+    private final RankingService rankingService;
+    private final SubjectStatisticsService subjectStatisticsService;
+    private final StudentSearchIndex studentSearchIndex;
+    private final StudentJsonService studentJsonService;
+    private final BoundedUserCache userCache;
+    private final ResultsPageCache resultsPageCache;
+    private final StudentDataVersions versions;
+    private final HtmlViewRenderer htmlViewRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Statistics hibernateStatistics;
+    private final Duration bulkJobRetryAfter;
 
     public AdminController(StudentRepository studentRepository,
                            UserRepository userRepository,
-                           PasswordEncoder passwordEncoder,
                            SubjectRepository subjectRepository,
-                           MarkRepository markRepository) {
+                           MarkRepository markRepository,
+                           MarkService markService,
+                           MarkImportService markImportService,
+                           MarkGridService markGridService,
+                           StudentOnboardingService studentOnboardingService,
+                           CohortArchiveService cohortArchiveService,
+                           ResultPdfCache resultPdfCache,
+                           ResultCardExportService resultCardExportService,
+                           ResultSummaryService resultSummaryService,
+                           RankingService rankingService,
+                           SubjectStatisticsService subjectStatisticsService,
+                           StudentSearchIndex studentSearchIndex,
+                           StudentJsonService studentJsonService,
+                           BoundedUserCache userCache,
+                           ResultsPageCache resultsPageCache,
+                           StudentDataVersions versions,
+                           HtmlViewRenderer htmlViewRenderer,
+                           ApplicationEventPublisher eventPublisher,
+                           EntityManagerFactory entityManagerFactory,
+                           @Value("${srms.bulk-jobs.retry-after:30s}") Duration bulkJobRetryAfter) {
         this.studentRepository = studentRepository;
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
         this.subjectRepository = subjectRepository;
         this.markRepository = markRepository;
+        this.markService = markService;
+        this.markImportService = markImportService;
+        this.markGridService = markGridService;
+        this.studentOnboardingService = studentOnboardingService;
+        this.cohortArchiveService = cohortArchiveService;
+        this.resultPdfCache = resultPdfCache;
+        this.resultCardExportService = resultCardExportService;
+        this.resultSummaryService = resultSummaryService;
+        this.rankingService = rankingService;
+        this.subjectStatisticsService = subjectStatisticsService;
+        this.studentSearchIndex = studentSearchIndex;
+        this.studentJsonService = studentJsonService;
+        this.userCache = userCache;
+        this.resultsPageCache = resultsPageCache;
+        this.versions = versions;
+        this.htmlViewRenderer = htmlViewRenderer;
+        this.eventPublisher = eventPublisher;
+        this.hibernateStatistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.bulkJobRetryAfter = bulkJobRetryAfter;
     }
 
     // ----- Admin Dashboard -----
@@ -56,11 +170,36 @@ public class AdminController {
         return "admin_students"; // template
     }
 
-    // JSON API endpoint
+    // JSON API endpoint: the whole table streamed, or keyset pages with ?after=<last id>&limit=
     @GetMapping("/students/json")
+    public void listStudentsJson(@RequestParam(value = "after", required = false) Long after,
+                                 @RequestParam(value = "limit", required = false) Integer limit,
+                                 HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        if (after == null && limit == null) {
+            studentJsonService.writeAll(response.getOutputStream());
+            return;
+        }
+        long afterId = after != null ? after : 0;
+        int pageSize = limit != null ? Math.min(Math.max(limit, 1), StudentJsonService.MAX_PAGE_SIZE) : 100;
+        // Headers must be set before the body; the next cursor is only known afterwards, so buffer the page
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        Long next = studentJsonService.writePage(afterId, pageSize, body);
+        if (next != null) {
+            response.setHeader("Link", "</admin/students/json?after=" + next + "&limit=" + pageSize + ">; rel=\"next\"");
+        }
+        response.setContentLength(body.size());
+        body.writeTo(response.getOutputStream());
+    }
+
+    // Autocomplete: top matches on name, email or roll number, served from the in-memory index
+    @GetMapping("/students/suggest")
     @ResponseBody
-    public List<Student> listStudentsJson() {
-        return studentRepository.findAll();
+    public List<StudentSuggestion> suggestStudents(
+            @RequestParam(value = "q", required = false, defaultValue = "") String query,
+            @RequestParam(value = "limit", required = false, defaultValue = "10") Integer limit) {
+        return studentSearchIndex.suggest(query, Math.min(Math.max(limit, 1), 50));
     }
 
     @GetMapping("/students/add")
@@ -69,20 +208,82 @@ public class AdminController {
         return "admin_add_student"; // template
     }
 
+    // Password hashing and the inserts run on the onboarding executor; the Tomcat thread is released meanwhile
     @PostMapping("/students/save")
-    public String saveStudent(@ModelAttribute Student student) {
-        // Create linked User
-        User user = new User();
-        user.setUsername(student.getEmail());                     // email as username
-        user.setPassword(passwordEncoder.encode("student123"));   // default password
-        user.setRole("STUDENT");
-        userRepository.save(user);
-
-        // Link student with User
-        student.setUser(user);
-        studentRepository.save(student);
+    public CompletableFuture<String> saveStudent(@ModelAttribute Student student, Model model,
+                                                 HttpServletResponse response) {
+        try {
+            return studentOnboardingService.createStudent(student)
+                    .thenApply(saved -> "redirect:/admin/students");
+        } catch (TaskRejectedException e) {
+            // The hashing queue is full (bulk onboarding): nothing was saved, show the form again
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(bulkJobRetryAfter.toSeconds()));
+            model.addAttribute("error", "Student onboarding is busy, please try again shortly");
+            return CompletableFuture.completedFuture("admin_add_student");
+        }
+    }
 
-        return "redirect:/admin/students";
+    // ----- Bulk onboarding: JSON array or CSV (name,email,rollNumber) -----
+    @PostMapping(value = "/students/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<BulkJobStatus> bulkOnboardJson(@RequestBody List<StudentOnboardingRow> rows) {
+        try {
+            return accepted(studentOnboardingService.startBulkOnboarding(rows));
+        } catch (TaskRejectedException e) {
+            return bulkJobsBusy();
+        }
+    }
+
+    @PostMapping(value = "/students/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseBody
+    public ResponseEntity<BulkJobStatus> bulkOnboardCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return accepted(studentOnboardingService.startBulkOnboarding(studentOnboardingService.parseCsv(in)));
+        } catch (TaskRejectedException e) {
+            return bulkJobsBusy();
+        }
+    }
+
+    @GetMapping("/students/bulk/{jobId}")
+    @ResponseBody
+    public ResponseEntity<BulkJobStatus> bulkOnboardStatus(@PathVariable String jobId) {
+        return ResponseEntity.of(studentOnboardingService.findJob(jobId));
+    }
+
+    private ResponseEntity<BulkJobStatus> accepted(BulkJobStatus job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/admin/students/bulk/" + job.getId()))
+                .body(job);
+    }
+
+    // The bulk job queue is full: nothing was started, the client should submit again later
+    private ResponseEntity<BulkJobStatus> bulkJobsBusy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(bulkJobRetryAfter.toSeconds()))
+                .build();
+    }
+
+    // ----- Cohort archival: copy to the archive tables, then delete in set-based chunks -----
+    @PostMapping(value = "/students/archive", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<BulkJobStatus> archiveCohort(@RequestBody CohortArchiveRequest request) {
+        try {
+            BulkJobStatus job = cohortArchiveService.startArchive(request.getRollNumberPrefix(), request.getStudentIds());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/admin/students/archive/" + job.getId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (TaskRejectedException e) {
+            return bulkJobsBusy();
+        }
+    }
+
+    @GetMapping("/students/archive/{jobId}")
+    @ResponseBody
+    public ResponseEntity<BulkJobStatus> archiveCohortStatus(@PathVariable String jobId) {
+        return ResponseEntity.of(cohortArchiveService.findJob(jobId));
     }
 
     // ----- Edit Student Form -----
@@ -105,11 +306,15 @@ public class AdminController {
         existingStudent.setRollNumber(student.getRollNumber());
 
         // Update linked user's username if email changed
-        if (!existingStudent.getUser().getUsername().equals(student.getEmail())) {
+        String oldUsername = existingStudent.getUser().getUsername();
+        if (!oldUsername.equals(student.getEmail())) {
             existingStudent.getUser().setUsername(student.getEmail());
         }
 
         studentRepository.save(existingStudent);
+        userCache.removeUserFromCache(oldUsername);
+        userCache.removeUserFromCache(student.getEmail());
+        eventPublisher.publishEvent(StudentDataChangedEvent.profile(existingStudent.getId()));
         return "redirect:/admin/students";
     }
 
@@ -118,8 +323,11 @@ public class AdminController {
     public String deleteStudent(@PathVariable Long id) {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
-        userRepository.delete(student.getUser());
+        // Student first: students.user_id references the user
         studentRepository.delete(student);
+        userRepository.delete(student.getUser());
+        userCache.removeUserFromCache(student.getUser().getUsername());
+        eventPublisher.publishEvent(StudentDataChangedEvent.deleted(id));
         return "redirect:/admin/students";
     }
 
@@ -132,6 +340,25 @@ public class AdminController {
         return "admin_subjects"; // template
     }
 
+    // Typeahead for the subject picker: name prefix first, then other matches; filtered from the
+    // query-cached subject list, so no SQL once warm
+    @GetMapping("/subjects/suggest")
+    @ResponseBody
+    public List<SubjectSuggestion> suggestSubjects(
+            @RequestParam(value = "q", required = false, defaultValue = "") String query,
+            @RequestParam(value = "limit", required = false, defaultValue = "10") Integer limit) {
+        String needle = query.trim().toLowerCase(Locale.ROOT);
+        return subjectRepository.findAll().stream()
+                .filter(subject -> subject.getName() != null)
+                .map(subject -> new SubjectSuggestion(subject.getId(), subject.getName()))
+                .filter(subject -> subject.getName().toLowerCase(Locale.ROOT).contains(needle))
+                .sorted(Comparator.comparing(
+                                (SubjectSuggestion subject) -> !subject.getName().toLowerCase(Locale.ROOT).startsWith(needle))
+                        .thenComparing(SubjectSuggestion::getName))
+                .limit(Math.min(Math.max(limit, 1), 50))
+                .toList();
+    }
+
     @GetMapping("/subjects/add")
     public String addSubjectForm(Model model) {
         model.addAttribute("subject", new Subject());
@@ -144,6 +371,19 @@ public class AdminController {
         return "redirect:/admin/subjects";
     }
 
+    // ----- Statistics: count, mean, median, std. dev., pass rate and histogram per subject -----
+    @GetMapping("/subjects/statistics")
+    public String subjectStatistics(Model model) {
+        model.addAttribute("statistics", subjectStatisticsService.allStatistics());
+        return "admin_subject_statistics"; // template
+    }
+
+    @GetMapping("/subjects/{id}/statistics")
+    @ResponseBody
+    public ResponseEntity<SubjectStatistics> subjectStatisticsJson(@PathVariable Long id) {
+        return ResponseEntity.of(subjectStatisticsService.statistics(id));
+    }
+
     // ========================= MARKS =========================
 
     @GetMapping("/marks")
@@ -153,11 +393,10 @@ public class AdminController {
         return "admin_marks"; // template
     }
 
+    // Students and subjects are picked through the typeahead endpoints, so the form itself loads nothing
     @GetMapping("/marks/add")
     public String addMarkForm(Model model) {
         model.addAttribute("mark", new Mark());
-        model.addAttribute("students", studentRepository.findAll());
-        model.addAttribute("subjects", subjectRepository.findAll());
         return "admin_add_mark"; // template
     }
 
@@ -168,68 +407,260 @@ public class AdminController {
         Subject subject = subjectRepository.findById(mark.getSubject().getId())
                 .orElseThrow(() -> new RuntimeException("Subject not found"));
 
+        mark.setStudent(student);
+        mark.setSubject(subject);
+
         if (markRepository.findByStudentAndSubject(student, subject).isPresent()) {
             model.addAttribute("error", "Marks for this student and subject already exist!");
-            model.addAttribute("students", studentRepository.findAll());
-            model.addAttribute("subjects", subjectRepository.findAll());
-            model.addAttribute("mark", new Mark());
+            // Re-render with everything that was entered, so only the part that was wrong needs changing
+            model.addAttribute("mark", mark);
             return "admin_add_mark";
         }
 
-        mark.setStudent(student);
-        mark.setSubject(subject);
-        markRepository.save(mark);
+        markService.save(mark); // also refreshes the student's result summary
+
+        return "redirect:/admin/marks";
+    }
 
+    // ----- Delete Mark -----
+    @GetMapping("/marks/delete/{id}")
+    public String deleteMark(@PathVariable Long id) {
+        markService.delete(id);
         return "redirect:/admin/marks";
     }
 
+    // ----- Bulk CSV import: rollNumber,subject,marks -----
+    @GetMapping("/marks/import")
+    public String importMarksForm() {
+        return "admin_import_marks"; // template
+    }
+
+    @PostMapping("/marks/import")
+    public String importMarks(@RequestParam("file") MultipartFile file, Model model) throws IOException {
+        if (file.isEmpty()) {
+            model.addAttribute("error", "Please choose a CSV file to upload.");
+            return "admin_import_marks";
+        }
+        try (InputStream in = file.getInputStream()) {
+            model.addAttribute("report", markImportService.importCsv(in));
+        }
+        return "admin_import_marks";
+    }
+
+    // ----- Grid entry: one subject, a page of students, every mark on the page in one post -----
+    @GetMapping("/marks/grid")
+    public String markGrid(@RequestParam(value = "subjectId", required = false) Long subjectId,
+                           @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
+                           @RequestParam(value = "size", required = false, defaultValue = "50") Integer size,
+                           @RequestParam(value = "saved", required = false) Integer saved,
+                           Model model) {
+        loadMarkGrid(subjectId, page, size, model);
+        model.addAttribute("saved", saved);
+        return "admin_mark_grid"; // template
+    }
+
+    // Cells arrive as marks[<studentId>]; blank cells leave that student's mark as it is, and
+    // names whose id is not a number (never produced by the page) are ignored
+    @PostMapping("/marks/grid")
+    public String saveMarkGrid(@RequestParam("subjectId") Long subjectId,
+                               @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
+                               @RequestParam(value = "size", required = false, defaultValue = "50") Integer size,
+                               @RequestParam Map<String, String> params,
+                               Model model) {
+        Map<Long, String> entered = new LinkedHashMap<>();
+        Map<Long, Integer> marksByStudent = new LinkedHashMap<>();
+        String error = null;
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            String name = param.getKey();
+            if (!name.startsWith("marks[") || !name.endsWith("]")) {
+                continue;
+            }
+            String value = param.getValue().trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            Long studentId;
+            try {
+                studentId = Long.valueOf(name.substring("marks[".length(), name.length() - 1));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            entered.put(studentId, value);
+            try {
+                marksByStudent.put(studentId, Integer.valueOf(value));
+            } catch (NumberFormatException e) {
+                error = "Marks is not a number: " + value;
+            }
+        }
+
+        if (error == null) {
+            try {
+                int saved = markGridService.saveGrid(subjectId, marksByStudent);
+                return "redirect:/admin/marks/grid?subjectId=" + subjectId + "&page=" + page + "&size=" + size
+                        + "&saved=" + saved;
+            } catch (IllegalArgumentException e) {
+                error = e.getMessage();
+            } catch (DataIntegrityViolationException e) {
+                // A student or the subject was deleted between the check and the write
+                error = "A student or the subject no longer exists";
+            }
+        }
+        // Nothing was saved: show the page again with what was typed
+        loadMarkGrid(subjectId, page, size, model);
+        model.addAttribute("entered", entered);
+        model.addAttribute("error", error);
+        return "admin_mark_grid";
+    }
+
+    private void loadMarkGrid(Long subjectId, Integer page, Integer size, Model model) {
+        model.addAttribute("subjects", subjectRepository.findAll());
+        model.addAttribute("subjectId", subjectId);
+        model.addAttribute("size", size);
+        if (subjectId == null) {
+            return;
+        }
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 200), Sort.by("rollNumber"));
+        Page<StudentSuggestion> students = studentRepository.findSuggestionPage(pageable);
+
+        // The subject's current marks for the visible students: one query for the whole page
+        Map<Long, Integer> marks = new HashMap<>();
+        if (students.hasContent()) {
+            List<Long> studentIds = students.getContent().stream().map(StudentSuggestion::getId).toList();
+            for (MarkScore score : markRepository.findScores(subjectId, studentIds)) {
+                marks.put(score.getStudentId(), score.getMarks());
+            }
+        }
+        model.addAttribute("students", students.getContent());
+        model.addAttribute("marks", marks);
+        model.addAttribute("page", pageable.getPageNumber());
+        model.addAttribute("totalPages", students.getTotalPages());
+    }
+
     // ========================= RESULTS =========================
+
+    // Every student's result card in one ZIP, streamed while the cards are rendered
+    @GetMapping("/results/cards.zip")
+    public void exportResultCards(HttpServletResponse response) throws IOException {
+        response.setContentType("application/zip");
+        response.setHeader("Content-Disposition", "attachment; filename=Result_Cards_" + LocalDate.now() + ".zip");
+        resultCardExportService.exportAll(response.getOutputStream());
+    }
+
+    // Backfill / repair of student_result_summary from the marks table
+    @PostMapping("/results/summary/rebuild")
+    @ResponseBody
+    public Map<String, Integer> rebuildResultSummaries() {
+        return Map.of("rebuilt", resultSummaryService.rebuildAll());
+    }
+
+    // Top-K page of the overall leaderboard, or of one subject's
+    @GetMapping("/results/leaderboard")
+    @ResponseBody
+    public List<LeaderboardEntry> leaderboard(
+            @RequestParam(value = "subjectId", required = false) Long subjectId,
+            @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
+            @RequestParam(value = "size", required = false, defaultValue = "10") Integer size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        return rankingService.top(subjectId, Math.max(page, 0) * pageSize, pageSize);
+    }
+
+    // Hit/miss counters of the login user cache
+    @GetMapping("/cache/users")
+    @ResponseBody
+    public CacheStats userCacheStats() {
+        return userCache.stats();
+    }
+
+    // Hit/miss counters of the result-card PDF cache
+    @GetMapping("/cache/result-pdf")
+    @ResponseBody
+    public CacheStats resultPdfCacheStats() {
+        return resultPdfCache.stats();
+    }
+
+    // Hit/miss counters of the rendered results page cache
+    @GetMapping("/cache/results-pages")
+    @ResponseBody
+    public CacheStats resultsPageCacheStats() {
+        return resultsPageCache.stats();
+    }
+
+    // Hit/miss counters of the Hibernate second-level cache, per entity and query region
+    @GetMapping("/cache/hibernate")
+    @ResponseBody
+    public List<CacheRegionStats> hibernateCacheStats() {
+        return Arrays.stream(hibernateStatistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics stats = hibernateStatistics.getCacheRegionStatistics(region);
+                    return new CacheRegionStats(region, stats.getHitCount(), stats.getMissCount(), stats.getPutCount());
+                })
+                .toList();
+    }
+
+    // Served from the rendered-page cache while no student data has changed since it was rendered,
+    // and not at all (304) when the client already has that render
     @GetMapping("/results")
-    public String listResults(
+    public ResponseEntity<byte[]> listResults(
             @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
             @RequestParam(value = "size", required = false, defaultValue = "10") Integer size,
             @RequestParam(value = "keyword", required = false, defaultValue = "") String keyword,
-            Model model) {
+            Model model,
+            HttpServletRequest request,
+            HttpServletResponse response) throws Exception {
+
+        // Taken before loading, so a page rendered from pre-change data never gets a post-change version
+        long version = versions.global();
+        long searchGeneration = studentSearchIndex.generation();
+        if (ConditionalGet.notModified(new ServletWebRequest(request, response), versions.lastModified(),
+                "a", version, searchGeneration)) {
+            return null;
+        }
+        byte[] html = resultsPageCache.get(page, size, keyword, version, searchGeneration);
+        if (html == null) {
+            loadResultsPage(page, size, keyword, model);
+            html = htmlViewRenderer.render("admin_results", model, request, response);
+            resultsPageCache.put(page, size, keyword, version, searchGeneration, html);
+        }
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .body(html);
+    }
 
-        List<Student> students;
+    private void loadResultsPage(Integer page, Integer size, String keyword, Model model) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), Sort.by("id"));
 
+        // Keyword matches come from the in-memory search index; only the visible page is loaded
+        Page<ResultSummary> resultPage;
         if (!keyword.isEmpty()) {
-            students = studentRepository.findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(keyword, keyword);
+            long[] matches = studentSearchIndex.search(keyword);
+            int from = (int) Math.min(pageable.getOffset(), matches.length);
+            int to = Math.min(from + pageable.getPageSize(), matches.length);
+            List<Long> pageIds = Arrays.stream(matches, from, to).boxed().toList();
+            List<ResultSummary> content = pageIds.isEmpty() ? List.of()
+                    : studentRepository.findResultSummariesByIds(pageIds);
+            resultPage = new PageImpl<>(content, pageable, matches.length);
         } else {
-            students = studentRepository.findAll();
-        }
-
-        int totalStudents = students.size();
-        int totalPages = (int) Math.ceil((double) totalStudents / size);
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, totalStudents);
-        List<Student> pagedStudents = (fromIndex >= totalStudents) ? new ArrayList<>() : students.subList(fromIndex, toIndex);
-
-        List<StudentResultDTO> studentResults = new ArrayList<>();
-        for (Student student : pagedStudents) {
-            int totalMarks = 0;
-            int subjectsCount = 0;
-            boolean hasFail = false;
-
-            if (student.getMarks() != null && !student.getMarks().isEmpty()) {
-                for (Mark m : student.getMarks()) {
-                    totalMarks += m.getMarks();
-                    subjectsCount++;
-                    if (m.getMarks() < 35) hasFail = true;
-                }
-            }
-
-            double percentage = subjectsCount > 0 ? (totalMarks * 100.0 / (subjectsCount * 100)) : 0;
-            String resultStatus = (hasFail || subjectsCount == 0) ? "Fail" : "Pass";
+            resultPage = studentRepository.findResultSummaries(pageable);
+        }
 
-            studentResults.add(new StudentResultDTO(student, totalMarks, percentage, resultStatus));
+        int totalPages = resultPage.getTotalPages();
+        List<ResultSummary> studentResults = resultPage.getContent();
+
+        // Subject-wise marks for the expandable rows: one query for the whole page
+        if (!studentResults.isEmpty()) {
+            List<Long> studentIds = studentResults.stream().map(ResultSummary::getStudentId).toList();
+            Map<Long, List<SubjectMarkDTO>> marksByStudent = markRepository.findSubjectMarks(studentIds)
+                    .stream()
+                    .collect(Collectors.groupingBy(SubjectMarkDTO::getStudentId));
+            for (ResultSummary summary : studentResults) {
+                summary.setMarks(marksByStudent.getOrDefault(summary.getStudentId(), List.of()));
+            }
         }
 
         model.addAttribute("studentResults", studentResults);
         model.addAttribute("keyword", keyword);
         model.addAttribute("page", page);
         model.addAttribute("totalPages", totalPages);
-
-        return "admin_results";
     }
 }
@@ -0,0 +1,40 @@
+package com.example.studentdb.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Validators for pages built from versioned data: a strong ETag made of the versions the
+ * response depends on, plus Last-Modified for clients that only send If-Modified-Since.
+ * <p>
+ * Pages that differ per user must put the user's id into the ETag and use
+ * {@link #notModifiedByEtag}: the browser keeps one copy per URL, so on a shared browser the
+ * next user revalidates with the previous user's validators.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    // True when the client's copy is current; the 304 status and headers are then already set
+    static boolean notModified(ServletWebRequest request, long lastModified, Object... versions) {
+        return check(request, lastModified, versions);
+    }
+
+    // ETag only: no Last-Modified, so a bare If-Modified-Since is never answered with 304
+    static boolean notModifiedByEtag(ServletWebRequest request, Object... versions) {
+        return check(request, -1, versions);
+    }
+
+    private static boolean check(ServletWebRequest request, long lastModified, Object... versions) {
+        StringBuilder etag = new StringBuilder("\"");
+        for (Object version : versions) {
+            etag.append(etag.length() > 1 ? "-" : "").append(version);
+        }
+        // Kept by the browser (not shared caches) but revalidated on every use. Set here so
+        // Spring Security's default no-store, which would stop the browser keeping it, is skipped.
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        return request.checkNotModified(etag.append('"').toString(), lastModified);
+    }
+}
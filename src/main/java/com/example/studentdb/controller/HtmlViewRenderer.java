@@ -0,0 +1,36 @@
+package com.example.studentdb.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.ui.Model;
+import org.springframework.web.servlet.View;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+/**
+ * Renders a Thymeleaf view to bytes instead of the response, for pages whose HTML is cached.
+ * The view runs with the real request, so links, the locale and the security dialect behave
+ * exactly as they do for a normal view name.
+ */
+@Component
+public class HtmlViewRenderer {
+
+    private final ThymeleafViewResolver viewResolver;
+
+    public HtmlViewRenderer(ThymeleafViewResolver viewResolver) {
+        this.viewResolver = viewResolver;
+    }
+
+    // UTF-8 bytes of the rendered view (the encoding the view resolver is configured with)
+    public byte[] render(String viewName, Model model, HttpServletRequest request, HttpServletResponse response)
+            throws Exception {
+        View view = viewResolver.resolveViewName(viewName, request.getLocale());
+        if (view == null) {
+            throw new IllegalStateException("No view named " + viewName);
+        }
+        ContentCachingResponseWrapper buffer = new ContentCachingResponseWrapper(response);
+        view.render(model.asMap(), request, buffer);
+        return buffer.getContentAsByteArray();
+    }
+}
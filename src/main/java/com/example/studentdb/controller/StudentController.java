@@ -1,27 +1,37 @@
 package com.example.studentdb.controller;
 
+import com.example.studentdb.dto.PdfJobStatus;
+import com.example.studentdb.dto.ResultCardPdf;
+import com.example.studentdb.dto.ResultSummary;
 import com.example.studentdb.entity.Mark;
 import com.example.studentdb.entity.Student;
 import com.example.studentdb.repository.MarkRepository;
 import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.service.RankingService;
+import com.example.studentdb.service.ResultCardService;
+import com.example.studentdb.service.ResultPdfJobService;
+import com.example.studentdb.service.StudentDataVersions;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.awt.Color;   // ✅ Required for colors
-import com.lowagie.text.PageSize;   // ✅ Required for page size
-import com.lowagie.text.Document;
-import com.lowagie.text.Element;
-import com.lowagie.text.Font;
-import com.lowagie.text.Paragraph;
-import com.lowagie.text.Phrase;
-import com.lowagie.text.pdf.PdfPCell;
-import com.lowagie.text.pdf.PdfPTable;
-import com.lowagie.text.pdf.PdfWriter;
-
+import java.net.URI;
 import java.security.Principal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 
 @Controller
@@ -29,11 +39,26 @@ public class StudentController {
 
     private final StudentRepository studentRepository;
     private final MarkRepository markRepository;
+    private final ResultCardService resultCardService;
+    private final RankingService rankingService;
+    private final StudentDataVersions versions;
+    private final ResultPdfJobService resultPdfJobService;
+    private final Duration pdfJobRetryAfter;
 
     public StudentController(StudentRepository studentRepository,
-                             MarkRepository markRepository) {
+                             MarkRepository markRepository,
+                             ResultCardService resultCardService,
+                             RankingService rankingService,
+                             StudentDataVersions versions,
+                             ResultPdfJobService resultPdfJobService,
+                             @Value("${srms.pdf-jobs.retry-after:5s}") Duration pdfJobRetryAfter) {
         this.studentRepository = studentRepository;
         this.markRepository = markRepository;
+        this.resultCardService = resultCardService;
+        this.rankingService = rankingService;
+        this.versions = versions;
+        this.resultPdfJobService = resultPdfJobService;
+        this.pdfJobRetryAfter = pdfJobRetryAfter;
     }
 
     // ----- Student Dashboard -----
@@ -41,11 +66,7 @@ public class StudentController {
     public String studentDashboard(Authentication authentication, Model model) {
         String username = authentication.getName();
 
-        Student student = studentRepository.findAll()
-                .stream()
-                .filter(s -> s.getUser().getUsername().equals(username))
-                .findFirst()
-                .orElse(null);
+        Student student = studentRepository.findByUserUsername(username);
 
         if (student != null) {
             model.addAttribute("student", student);
@@ -58,27 +79,28 @@ public class StudentController {
     }
 
     // ----- View My Results -----
+    // 304 while neither the student's data nor any rank has changed (the page shows ranks).
+    // Same URL for every student, so the ETag carries the student id and there is no Last-Modified.
     @GetMapping("/student/results")
-    public String viewResults(Authentication authentication, Model model) {
+    public String viewResults(Authentication authentication, Model model, ServletWebRequest webRequest) {
         String username = authentication.getName();
 
         Student student = studentRepository.findByUserUsername(username);
+        if (student != null && ConditionalGet.notModifiedByEtag(webRequest,
+                "r", student.getId(), versions.current(student.getId()), rankingService.epoch())) {
+            return null;
+        }
 
         if (student != null) {
             List<Mark> marks = markRepository.findByStudent(student);
-
-            int totalMarks = marks.stream().mapToInt(Mark::getMarks).sum();
-            int subjectCount = marks.size();
-            double percentage = subjectCount > 0 ? (totalMarks * 1.0 / subjectCount) : 0.0;
-
-            boolean hasFailed = marks.stream().anyMatch(m -> m.getMarks() < 35);
-            String resultStatus = hasFailed ? "Fail" : "Pass";
+            ResultSummary summary = studentRepository.findResultSummary(student.getId());
 
             model.addAttribute("student", student);
             model.addAttribute("marks", marks);
-            model.addAttribute("totalMarks", totalMarks);
-            model.addAttribute("percentage", percentage);
-            model.addAttribute("resultStatus", resultStatus);
+            model.addAttribute("totalMarks", summary.getTotalMarks());
+            model.addAttribute("percentage", summary.getPercentage());
+            model.addAttribute("resultStatus", summary.getResultStatus());
+            model.addAttribute("ranking", rankingService.rankingFor(student.getId())); // in-memory, no SQL
 
         } else {
             model.addAttribute("error", "No student found for username: " + username);
@@ -88,129 +110,66 @@ public class StudentController {
     }
 
     // ----- Download Result PDF -----
+    // Served from ResultPdfCache when the student's data has not changed since the last render,
+    // and not at all (304) when the client already has that render
     @GetMapping("/student/results/pdf")
-    public void downloadResultPdf(HttpServletResponse response, Principal principal) throws Exception {
-        String email = principal.getName();
-        Student student = studentRepository.findByEmail(email);
-        if (student == null) {
-            throw new RuntimeException("Student not found");
+    public void downloadResultPdf(HttpServletResponse response, Principal principal, ServletWebRequest webRequest)
+            throws Exception {
+        Long studentId = resultCardService.studentIdFor(principal.getName());
+        // The card also prints ranks and the day it was generated; keyed by student like the results page
+        LocalDate today = LocalDate.now();
+        if (ConditionalGet.notModifiedByEtag(webRequest,
+                "p", studentId, versions.current(studentId), rankingService.epoch(), today.toEpochDay())) {
+            return;
         }
 
-        List<Mark> marks = markRepository.findByStudent(student);
-        int totalMarks = marks.stream().mapToInt(Mark::getMarks).sum();
-        double percentage = marks.isEmpty() ? 0 : (double) totalMarks / marks.size();
-        String resultStatus = percentage >= 33 ? "Pass" : "Fail";
+        ResultCardPdf pdf = resultCardService.getResultCard(studentId, principal.getName());
 
         response.setContentType("application/pdf");
-        response.setHeader("Content-Disposition", "attachment; filename=Result_" + student.getName() + ".pdf");
-
-        Document document = new Document(PageSize.A4);
-        PdfWriter.getInstance(document, response.getOutputStream());
-        document.open();
-
-        // Header
-        Font headerFont = new Font(Font.HELVETICA, 18, Font.BOLD, Color.BLUE);
-        Paragraph instituteName = new Paragraph("Techno India University, West Bengal", headerFont);
-        instituteName.setAlignment(Element.ALIGN_CENTER);
-        document.add(instituteName);
-
-        Paragraph address = new Paragraph("EM-4, Sector-V, Salt Lake, Kolkata - 700091, West Bengal, India | info@techno.edu.in",
-                new Font(Font.HELVETICA, 10, Font.NORMAL, Color.DARK_GRAY));
-        address.setAlignment(Element.ALIGN_CENTER);
-        document.add(address);
-
-        document.add(new Paragraph(" "));
-        Paragraph reportTitle = new Paragraph("OFFICIAL RESULT CARD",
-                new Font(Font.HELVETICA, 14, Font.BOLD));
-        reportTitle.setAlignment(Element.ALIGN_CENTER);
-        document.add(reportTitle);
-
-        document.add(new Paragraph("Generated on: " + java.time.LocalDate.now(),
-                new Font(Font.HELVETICA, 9, Font.ITALIC, Color.GRAY)));
-        document.add(new Paragraph(" "));
-
-        // Student Info
-        PdfPTable studentTable = new PdfPTable(2);
-        studentTable.setWidthPercentage(100);
-        studentTable.setSpacingBefore(10);
-
-        studentTable.addCell(makeCell("Name:", true));
-        studentTable.addCell(makeCell(student.getName(), false));
-
-        studentTable.addCell(makeCell("Email:", true));
-        studentTable.addCell(makeCell(student.getEmail(), false));
-
-        studentTable.addCell(makeCell("Roll Number:", true));
-        studentTable.addCell(makeCell(student.getRollNumber(), false));
-
-        document.add(studentTable);
-        document.add(new Paragraph(" "));
-
-        // Subjects
-        PdfPTable table = new PdfPTable(2);
-        table.setWidthPercentage(100);
-
-        PdfPCell header1 = new PdfPCell(new Phrase("Subject",
-                new Font(Font.HELVETICA, 11, Font.BOLD, Color.WHITE)));
-        header1.setBackgroundColor(new Color(52, 152, 219));
-        header1.setHorizontalAlignment(Element.ALIGN_CENTER);
-        header1.setPadding(6);
-
-        PdfPCell header2 = new PdfPCell(new Phrase("Marks",
-                new Font(Font.HELVETICA, 11, Font.BOLD, Color.WHITE)));
-        header2.setBackgroundColor(new Color(52, 152, 219));
-        header2.setHorizontalAlignment(Element.ALIGN_CENTER);
-        header2.setPadding(6);
-
-        table.addCell(header1);
-        table.addCell(header2);
-
-        for (Mark m : marks) {
-            table.addCell(makeCell(m.getSubject().getName(), false));
-            table.addCell(makeCell(String.valueOf(m.getMarks()), false));
-        }
-
-        document.add(table);
-        document.add(new Paragraph(" "));
-
-        // Summary
-        PdfPTable summaryTable = new PdfPTable(2);
-        summaryTable.setWidthPercentage(60);
-        summaryTable.setSpacingBefore(15);
-        summaryTable.setHorizontalAlignment(Element.ALIGN_LEFT);
-
-        summaryTable.addCell(makeCell("Total Marks", true));
-        summaryTable.addCell(makeCell(String.valueOf(totalMarks), false));
-
-        summaryTable.addCell(makeCell("Percentage", true));
-        summaryTable.addCell(makeCell(String.format("%.2f %%", percentage), false));
-
-        PdfPCell resultCell = new PdfPCell(new Phrase("Final Result: " + resultStatus,
-                new Font(Font.HELVETICA, 12, Font.BOLD,
-                        resultStatus.equals("Pass") ? Color.GREEN : Color.RED)));
-        resultCell.setColspan(2);
-        resultCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-        summaryTable.addCell(resultCell);
-
-        document.add(summaryTable);
+        response.setHeader("Content-Disposition", "attachment; filename=" + pdf.getFileName());
+        response.setContentLength(pdf.getContent().length);
+        response.getOutputStream().write(pdf.getContent());
+    }
 
-        // Signature
-        document.add(new Paragraph("\n\n\n"));
-        Paragraph signature = new Paragraph("Pratyush Gupta \nPrincipal Signature",
-                new Font(Font.HELVETICA, 11, Font.NORMAL));
-        signature.setAlignment(Element.ALIGN_RIGHT);
-        document.add(signature);
+    // ----- Queued Result PDF: submit, poll, download -----
+    // The render runs on the bounded PDF job pool; when its queue is full the client is told to retry later
+    @PostMapping("/student/results/pdf/jobs")
+    @ResponseBody
+    public ResponseEntity<PdfJobStatus> submitResultPdfJob(Principal principal) {
+        try {
+            PdfJobStatus job = resultPdfJobService.submit(principal.getName());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/student/results/pdf/jobs/" + job.getId()))
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(job);
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(pdfJobRetryAfter.toSeconds()))
+                    .build();
+        }
+    }
 
-        document.close();
+    @GetMapping("/student/results/pdf/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<PdfJobStatus> resultPdfJobStatus(@PathVariable String jobId, Principal principal) {
+        return resultPdfJobService.findJob(jobId, principal.getName())
+                .map(job -> job.isFinished() ? ResponseEntity.ok().body(job)
+                        : ResponseEntity.ok().header(HttpHeaders.RETRY_AFTER, "1").body(job))
+                .orElse(ResponseEntity.notFound().build());
     }
 
-    // Helper
-    private PdfPCell makeCell(String text, boolean bold) {
-        Font font = bold
-                ? new Font(Font.HELVETICA, 11, Font.BOLD, Color.BLACK)
-                : new Font(Font.HELVETICA, 11, Font.NORMAL, Color.BLACK);
-        PdfPCell cell = new PdfPCell(new Phrase(text, font));
-        cell.setPadding(5);
-        return cell;
+    // 409 while the job is still queued or rendering (or has failed)
+    @GetMapping("/student/results/pdf/jobs/{jobId}/pdf")
+    public ResponseEntity<byte[]> downloadResultPdfJob(@PathVariable String jobId, Principal principal) {
+        if (resultPdfJobService.findJob(jobId, principal.getName()).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return resultPdfJobService.findPdf(jobId, principal.getName())
+                .map(pdf -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_PDF)
+                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                ContentDisposition.attachment().filename(pdf.getFileName()).build().toString())
+                        .body(pdf.getContent()))
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
     }
 }
@@ -3,6 +3,7 @@ package com.example.studentdb.controller;
 import com.example.studentdb.entity.User;
 import com.example.studentdb.repository.UserRepository;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,10 +13,12 @@ public class UserController {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
 
-    public UserController(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserController(UserRepository userRepository, PasswordEncoder passwordEncoder, UserCache userCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
     }
 
     // ---- Register New User ----
@@ -24,6 +27,7 @@ public class UserController {
         user.setPassword(passwordEncoder.encode(user.getPassword())); // encode password
         user.setRole("ROLE_STUDENT"); // default role
         User saved = userRepository.save(user);
+        userCache.removeUserFromCache(saved.getUsername());
         return ResponseEntity.ok(saved);
     }
 }
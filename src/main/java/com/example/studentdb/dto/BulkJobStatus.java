@@ -0,0 +1,57 @@
+package com.example.studentdb.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of a background bulk job, polled by clients while it runs.
+ * Counters are updated by the worker thread and read by request threads.
+ */
+public class BulkJobStatus {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final int total;
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final List<RowError> errors = Collections.synchronizedList(new ArrayList<>());
+    private volatile State state = State.QUEUED;
+    private volatile String message;
+
+    public BulkJobStatus(int total) {
+        this.total = total;
+    }
+
+    public void start() { state = State.RUNNING; }
+    public void progress(int processedRows, int succeededRows) {
+        processed.addAndGet(processedRows);
+        succeeded.addAndGet(succeededRows);
+    }
+    public void error(long row, String error) { errors.add(new RowError(row, error)); }
+    public void complete() { state = State.COMPLETED; }
+    public void fail(String reason) {
+        message = reason;
+        state = State.FAILED;
+    }
+
+    public boolean isFinished() { return state == State.COMPLETED || state == State.FAILED; }
+
+    // Getters
+    public String getId() { return id; }
+    public State getState() { return state; }
+    public int getTotal() { return total; }
+    public int getProcessed() { return processed.get(); }
+    public int getSucceeded() { return succeeded.get(); }
+    public int getFailed() { return errors.size(); }
+    public double getPercentComplete() { return total > 0 ? processed.get() * 100.0 / total : 100; }
+    public String getMessage() { return message; }
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return new ArrayList<>(errors);
+        }
+    }
+}
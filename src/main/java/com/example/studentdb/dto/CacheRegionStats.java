@@ -0,0 +1,26 @@
+package com.example.studentdb.dto;
+
+public class CacheRegionStats {
+    private final String region;
+    private final long hits;
+    private final long misses;
+    private final long puts;
+
+    public CacheRegionStats(String region, long hits, long misses, long puts) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+    }
+
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups > 0 ? (double) hits / lookups : 0;
+    }
+
+    // Getters
+    public String getRegion() { return region; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getPuts() { return puts; }
+}
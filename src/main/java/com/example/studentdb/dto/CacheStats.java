@@ -0,0 +1,29 @@
+package com.example.studentdb.dto;
+
+public class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int entries;
+    private final long sizeBytes;
+
+    public CacheStats(long hits, long misses, long evictions, int entries, long sizeBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.entries = entries;
+        this.sizeBytes = sizeBytes;
+    }
+
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups > 0 ? (double) hits / lookups : 0;
+    }
+
+    // Getters
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getEvictions() { return evictions; }
+    public int getEntries() { return entries; }
+    public long getSizeBytes() { return sizeBytes; }
+}
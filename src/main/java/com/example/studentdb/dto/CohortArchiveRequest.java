@@ -0,0 +1,24 @@
+package com.example.studentdb.dto;
+
+import java.util.List;
+
+// Cohort to archive: every student whose roll number starts with the prefix, or the listed ids
+public class CohortArchiveRequest {
+    private String rollNumberPrefix;
+    private List<Long> studentIds;
+
+    public CohortArchiveRequest() {
+    }
+
+    public CohortArchiveRequest(String rollNumberPrefix, List<Long> studentIds) {
+        this.rollNumberPrefix = rollNumberPrefix;
+        this.studentIds = studentIds;
+    }
+
+    // Getters & Setters
+    public String getRollNumberPrefix() { return rollNumberPrefix; }
+    public void setRollNumberPrefix(String rollNumberPrefix) { this.rollNumberPrefix = rollNumberPrefix; }
+
+    public List<Long> getStudentIds() { return studentIds; }
+    public void setStudentIds(List<Long> studentIds) { this.studentIds = studentIds; }
+}
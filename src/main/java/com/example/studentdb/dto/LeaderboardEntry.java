@@ -0,0 +1,24 @@
+package com.example.studentdb.dto;
+
+public class LeaderboardEntry {
+    private final int rank;
+    private final Long studentId;
+    private final String name;
+    private final String rollNumber;
+    private final int score;
+
+    public LeaderboardEntry(int rank, Long studentId, String name, String rollNumber, int score) {
+        this.rank = rank;
+        this.studentId = studentId;
+        this.name = name;
+        this.rollNumber = rollNumber;
+        this.score = score;
+    }
+
+    // Getters
+    public int getRank() { return rank; }
+    public Long getStudentId() { return studentId; }
+    public String getName() { return name; }
+    public String getRollNumber() { return rollNumber; }
+    public int getScore() { return score; }
+}
@@ -0,0 +1,19 @@
+package com.example.studentdb.dto;
+
+// How many students scored a given mark in a subject (one GROUP BY row)
+public class MarkFrequency {
+    private final Long subjectId;
+    private final Integer marks;
+    private final Long count;
+
+    public MarkFrequency(Long subjectId, Integer marks, Long count) {
+        this.subjectId = subjectId;
+        this.marks = marks;
+        this.count = count;
+    }
+
+    // Getters
+    public Long getSubjectId() { return subjectId; }
+    public Integer getMarks() { return marks; }
+    public Long getCount() { return count; }
+}
@@ -0,0 +1,19 @@
+package com.example.studentdb.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MarkImportReport {
+    private int rowsRead;
+    private int imported;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public void rowRead() { rowsRead++; }
+    public void imported(int count) { imported += count; }
+    public void error(long line, String message) { errors.add(new RowError(line, message)); }
+
+    // Getters
+    public int getRowsRead() { return rowsRead; }
+    public int getImported() { return imported; }
+    public List<RowError> getErrors() { return errors; }
+}
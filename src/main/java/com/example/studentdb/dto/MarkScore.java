@@ -0,0 +1,19 @@
+package com.example.studentdb.dto;
+
+// One mark without its entity graph, for loading in-memory indexes
+public class MarkScore {
+    private final Long studentId;
+    private final Long subjectId;
+    private final Integer marks;
+
+    public MarkScore(Long studentId, Long subjectId, Integer marks) {
+        this.studentId = studentId;
+        this.subjectId = subjectId;
+        this.marks = marks;
+    }
+
+    // Getters
+    public Long getStudentId() { return studentId; }
+    public Long getSubjectId() { return subjectId; }
+    public Integer getMarks() { return marks; }
+}
@@ -0,0 +1,30 @@
+package com.example.studentdb.dto;
+
+import java.util.UUID;
+
+/**
+ * State of a queued result-card render, polled by the student's browser until it is ready.
+ * Updated by the worker thread and read by request threads.
+ */
+public class PdfJobStatus {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private volatile State state = State.QUEUED;
+    private volatile String message;
+
+    public void start() { state = State.RUNNING; }
+    public void complete() { state = State.COMPLETED; }
+    public void fail(String reason) {
+        message = reason;
+        state = State.FAILED;
+    }
+
+    public boolean isFinished() { return state == State.COMPLETED || state == State.FAILED; }
+
+    // Getters
+    public String getId() { return id; }
+    public State getState() { return state; }
+    public String getMessage() { return message; }
+}
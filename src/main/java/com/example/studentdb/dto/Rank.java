@@ -0,0 +1,19 @@
+package com.example.studentdb.dto;
+
+// Position of one score within a cohort; equal scores share a rank ("1224" ranking)
+public class Rank {
+    private final int rank;
+    private final int outOf;
+    private final double percentile;
+
+    public Rank(int rank, int outOf, double percentile) {
+        this.rank = rank;
+        this.outOf = outOf;
+        this.percentile = percentile;
+    }
+
+    // Getters
+    public int getRank() { return rank; }
+    public int getOutOf() { return outOf; }
+    public double getPercentile() { return percentile; }
+}
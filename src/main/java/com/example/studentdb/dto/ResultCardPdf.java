@@ -0,0 +1,19 @@
+package com.example.studentdb.dto;
+
+// A rendered result card, ready to be written to the response
+public class ResultCardPdf {
+    private final Long studentId;
+    private final String fileName;
+    private final byte[] content;
+
+    public ResultCardPdf(Long studentId, String fileName, byte[] content) {
+        this.studentId = studentId;
+        this.fileName = fileName;
+        this.content = content;
+    }
+
+    // Getters
+    public Long getStudentId() { return studentId; }
+    public String getFileName() { return fileName; }
+    public byte[] getContent() { return content; }
+}
@@ -0,0 +1,60 @@
+package com.example.studentdb.dto;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One student's result, read from the precomputed {@code student_result_summary} row
+ * (SUM / COUNT / MIN over marks) instead of walking {@code student.getMarks()} in Java.
+ */
+public class ResultSummary {
+
+    public static final int PASS_MARK = 35;
+
+    private final Long studentId;
+    private final String name;
+    private final String email;
+    private final String rollNumber;
+    private final long totalMarks;
+    private final long subjectCount;
+    private final Integer minMark;
+    private List<SubjectMarkDTO> marks = Collections.emptyList();
+    private StudentRanking ranking;
+
+    public ResultSummary(Long studentId, String name, String email, String rollNumber,
+                         Long totalMarks, Long subjectCount, Integer minMark) {
+        this.studentId = studentId;
+        this.name = name;
+        this.email = email;
+        this.rollNumber = rollNumber;
+        this.totalMarks = totalMarks != null ? totalMarks : 0;
+        this.subjectCount = subjectCount != null ? subjectCount : 0;
+        this.minMark = minMark;
+    }
+
+    // Each subject is marked out of 100
+    public double getPercentage() {
+        return subjectCount > 0 ? (totalMarks * 100.0 / (subjectCount * 100)) : 0;
+    }
+
+    // No marks at all, or any subject below the pass mark, is a fail
+    public String getResultStatus() {
+        return (subjectCount == 0 || minMark == null || minMark < PASS_MARK) ? "Fail" : "Pass";
+    }
+
+    // Getters
+    public Long getStudentId() { return studentId; }
+    public String getName() { return name; }
+    public String getEmail() { return email; }
+    public String getRollNumber() { return rollNumber; }
+    public long getTotalMarks() { return totalMarks; }
+    public long getSubjectCount() { return subjectCount; }
+    public Integer getMinMark() { return minMark; }
+
+    public List<SubjectMarkDTO> getMarks() { return marks; }
+    public void setMarks(List<SubjectMarkDTO> marks) { this.marks = marks; }
+
+    // Null when the student is not ranked (no marks)
+    public StudentRanking getRanking() { return ranking; }
+    public void setRanking(StudentRanking ranking) { this.ranking = ranking; }
+}
@@ -0,0 +1,16 @@
+package com.example.studentdb.dto;
+
+// A rejected input row in a bulk import (1-based line/row number)
+public class RowError {
+    private final long line;
+    private final String message;
+
+    public RowError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    // Getters
+    public long getLine() { return line; }
+    public String getMessage() { return message; }
+}
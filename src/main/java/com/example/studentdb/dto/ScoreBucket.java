@@ -0,0 +1,23 @@
+package com.example.studentdb.dto;
+
+// One histogram bar: marks in [from, to]
+public class ScoreBucket {
+    private final int from;
+    private final int to;
+    private final long count;
+
+    public ScoreBucket(int from, int to, long count) {
+        this.from = from;
+        this.to = to;
+        this.count = count;
+    }
+
+    public String getLabel() {
+        return from + "-" + to;
+    }
+
+    // Getters
+    public int getFrom() { return from; }
+    public int getTo() { return to; }
+    public long getCount() { return count; }
+}
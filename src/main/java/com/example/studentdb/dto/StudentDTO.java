@@ -0,0 +1,22 @@
+package com.example.studentdb.dto;
+
+// Public fields of a student for the JSON API: no linked user, no marks
+public class StudentDTO {
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final String rollNumber;
+
+    public StudentDTO(Long id, String name, String email, String rollNumber) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.rollNumber = rollNumber;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getEmail() { return email; }
+    public String getRollNumber() { return rollNumber; }
+}
@@ -0,0 +1,27 @@
+package com.example.studentdb.dto;
+
+// One student in a bulk onboarding request (JSON array element or CSV row name,email,rollNumber)
+public class StudentOnboardingRow {
+    private String name;
+    private String email;
+    private String rollNumber;
+
+    public StudentOnboardingRow() {
+    }
+
+    public StudentOnboardingRow(String name, String email, String rollNumber) {
+        this.name = name;
+        this.email = email;
+        this.rollNumber = rollNumber;
+    }
+
+    // Getters & Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getRollNumber() { return rollNumber; }
+    public void setRollNumber(String rollNumber) { this.rollNumber = rollNumber; }
+}
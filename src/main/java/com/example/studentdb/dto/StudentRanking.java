@@ -0,0 +1,22 @@
+package com.example.studentdb.dto;
+
+import java.util.Map;
+
+// A student's overall rank (by total marks) and rank in each subject they have marks for
+public class StudentRanking {
+    private final Rank overall;
+    private final Map<Long, Rank> bySubjectId;
+
+    public StudentRanking(Rank overall, Map<Long, Rank> bySubjectId) {
+        this.overall = overall;
+        this.bySubjectId = bySubjectId;
+    }
+
+    public Rank getSubjectRank(Long subjectId) {
+        return bySubjectId.get(subjectId);
+    }
+
+    // Getters
+    public Rank getOverall() { return overall; }
+    public Map<Long, Rank> getBySubjectId() { return bySubjectId; }
+}
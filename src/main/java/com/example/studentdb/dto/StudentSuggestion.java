@@ -0,0 +1,22 @@
+package com.example.studentdb.dto;
+
+// Autocomplete entry; also the searchable fields of one student
+public class StudentSuggestion {
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final String rollNumber;
+
+    public StudentSuggestion(Long id, String name, String email, String rollNumber) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.rollNumber = rollNumber;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getEmail() { return email; }
+    public String getRollNumber() { return rollNumber; }
+}
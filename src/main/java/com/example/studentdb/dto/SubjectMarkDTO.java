@@ -0,0 +1,21 @@
+package com.example.studentdb.dto;
+
+public class SubjectMarkDTO {
+    private final Long studentId;
+    private final Long subjectId;
+    private final String subjectName;
+    private final Integer marks;
+
+    public SubjectMarkDTO(Long studentId, Long subjectId, String subjectName, Integer marks) {
+        this.studentId = studentId;
+        this.subjectId = subjectId;
+        this.subjectName = subjectName;
+        this.marks = marks;
+    }
+
+    // Getters
+    public Long getStudentId() { return studentId; }
+    public Long getSubjectId() { return subjectId; }
+    public String getSubjectName() { return subjectName; }
+    public Integer getMarks() { return marks; }
+}
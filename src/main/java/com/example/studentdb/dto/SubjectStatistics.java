@@ -0,0 +1,36 @@
+package com.example.studentdb.dto;
+
+import java.util.List;
+
+public class SubjectStatistics {
+    private final Long subjectId;
+    private final String subjectName;
+    private final long count;
+    private final double mean;
+    private final double median;
+    private final double standardDeviation;
+    private final double passRate;
+    private final List<ScoreBucket> histogram;
+
+    public SubjectStatistics(Long subjectId, String subjectName, long count, double mean, double median,
+                             double standardDeviation, double passRate, List<ScoreBucket> histogram) {
+        this.subjectId = subjectId;
+        this.subjectName = subjectName;
+        this.count = count;
+        this.mean = mean;
+        this.median = median;
+        this.standardDeviation = standardDeviation;
+        this.passRate = passRate;
+        this.histogram = histogram;
+    }
+
+    // Getters
+    public Long getSubjectId() { return subjectId; }
+    public String getSubjectName() { return subjectName; }
+    public long getCount() { return count; }
+    public double getMean() { return mean; }
+    public double getMedian() { return median; }
+    public double getStandardDeviation() { return standardDeviation; }
+    public double getPassRate() { return passRate; }
+    public List<ScoreBucket> getHistogram() { return histogram; }
+}
@@ -0,0 +1,16 @@
+package com.example.studentdb.dto;
+
+// Autocomplete entry for the subject picker
+public class SubjectSuggestion {
+    private final Long id;
+    private final String name;
+
+    public SubjectSuggestion(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getName() { return name; }
+}
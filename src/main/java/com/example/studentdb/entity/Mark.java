@@ -10,15 +10,18 @@ import jakarta.persistence.*;
 )
 public class Mark {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts (see V3__Create_marks_sequence)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "marks_seq")
+    @SequenceGenerator(name = "marks_seq", sequenceName = "marks_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    // Lazy: finders that need the student/subject fetch-join them (see MarkRepository)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id")
     private Student student;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "subject_id")
     private Subject subject;
 
@@ -0,0 +1,33 @@
+package com.example.studentdb.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+// Maintained with set-based SQL by ResultSummaryService; read-only from JPA's point of view
+@Entity
+@Immutable
+@Table(name = "student_result_summary")
+public class StudentResultSummary {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Column(nullable = false)
+    private Long totalMarks;
+
+    @Column(nullable = false)
+    private Long subjectCount;
+
+    private Integer minMark;
+
+    @Column(nullable = false, length = 10)
+    private String status;
+
+    // Getters
+    public Long getStudentId() { return studentId; }
+    public Long getTotalMarks() { return totalMarks; }
+    public Long getSubjectCount() { return subjectCount; }
+    public Integer getMinMark() { return minMark; }
+    public String getStatus() { return status; }
+}
@@ -1,9 +1,13 @@
 package com.example.studentdb.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "subjects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subjects")  // read-mostly reference data
 public class Subject {
 
     @Id
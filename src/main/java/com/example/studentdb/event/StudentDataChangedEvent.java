@@ -0,0 +1,58 @@
+package com.example.studentdb.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published after a write to students or their marks has been committed.
+ * Caches and indexes derived from that data listen for it.
+ */
+public class StudentDataChangedEvent {
+
+    public enum Change { CREATED, MARKS, PROFILE, DELETED }
+
+    private final Change change;
+    private final Set<Long> studentIds;
+    // Subjects whose marks changed; empty when not known (any subject may be affected)
+    private final Set<Long> subjectIds;
+
+    public StudentDataChangedEvent(Change change, Collection<Long> studentIds) {
+        this(change, studentIds, Set.of());
+    }
+
+    public StudentDataChangedEvent(Change change, Collection<Long> studentIds, Collection<Long> subjectIds) {
+        this.change = change;
+        this.studentIds = Set.copyOf(studentIds);
+        this.subjectIds = Set.copyOf(subjectIds);
+    }
+
+    public static StudentDataChangedEvent marks(Long studentId, Long subjectId) {
+        return new StudentDataChangedEvent(Change.MARKS, Set.of(studentId), Set.of(subjectId));
+    }
+
+    public static StudentDataChangedEvent created(Collection<Long> studentIds) {
+        return new StudentDataChangedEvent(Change.CREATED, studentIds);
+    }
+
+    public static StudentDataChangedEvent profile(Long studentId) {
+        return new StudentDataChangedEvent(Change.PROFILE, Set.of(studentId));
+    }
+
+    public static StudentDataChangedEvent deleted(Long studentId) {
+        return new StudentDataChangedEvent(Change.DELETED, Set.of(studentId));
+    }
+
+    public static StudentDataChangedEvent deleted(Collection<Long> studentIds) {
+        return new StudentDataChangedEvent(Change.DELETED, studentIds);
+    }
+
+    // New students have no marks yet and profile edits never touch them
+    public boolean touchesMarks() {
+        return change == Change.MARKS || change == Change.DELETED;
+    }
+
+    // Getters
+    public Change getChange() { return change; }
+    public Set<Long> getStudentIds() { return studentIds; }
+    public Set<Long> getSubjectIds() { return subjectIds; }
+}
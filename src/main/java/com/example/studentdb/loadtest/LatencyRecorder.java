@@ -0,0 +1,68 @@
+package com.example.studentdb.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies per named step, kept in full so percentiles are exact rather than bucketed.
+ * A minute of load at a few thousand requests per second is well under a megabyte of samples.
+ */
+final class LatencyRecorder {
+
+    // Guarded by "this"
+    private final Map<String, Samples> steps = new TreeMap<>();
+
+    synchronized void record(String step, long nanos, boolean ok) {
+        Samples samples = steps.computeIfAbsent(step, s -> new Samples());
+        if (samples.count == samples.nanos.length) {
+            samples.nanos = Arrays.copyOf(samples.nanos, samples.count * 2);
+        }
+        samples.nanos[samples.count++] = nanos;
+        if (!ok) {
+            samples.errors++;
+        }
+    }
+
+    // One line per step plus a total, for the given measurement window
+    synchronized List<String> report(long windowNanos) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-24s %8s %7s %9s %9s %9s %9s %9s",
+                "step", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        Samples total = new Samples();
+        for (Map.Entry<String, Samples> step : steps.entrySet()) {
+            lines.add(line(step.getKey(), step.getValue(), windowNanos));
+            total.nanos = Arrays.copyOf(total.nanos, total.count + step.getValue().count);
+            System.arraycopy(step.getValue().nanos, 0, total.nanos, total.count, step.getValue().count);
+            total.count += step.getValue().count;
+            total.errors += step.getValue().errors;
+        }
+        lines.add(line("all", total, windowNanos));
+        return lines;
+    }
+
+    private static String line(String name, Samples samples, long windowNanos) {
+        long[] sorted = Arrays.copyOf(samples.nanos, samples.count);
+        Arrays.sort(sorted);
+        return String.format("%-24s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f", name, samples.count, samples.errors,
+                samples.count * 1e9 / windowNanos, millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    // Nearest-rank percentile of sorted nanos, in milliseconds
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[256];
+        private int count;
+        private long errors;
+    }
+}
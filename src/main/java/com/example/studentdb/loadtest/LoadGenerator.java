@@ -0,0 +1,213 @@
+package com.example.studentdb.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drives the running application over HTTP once it is ready, for the loadtest profile.
+ * <p>
+ * Each of {@code srms.loadtest.clients} clients repeats whole sessions back to back (a closed
+ * loop). A student session logs in as a random seeded student, opens the dashboard and the
+ * results page, downloads the PDF and logs out; an admin session opens the dashboard, a random
+ * results page and a name search. Latencies are recorded per step after the warm-up and logged
+ * as throughput and percentiles at the end.
+ */
+@Component
+@Profile("loadtest")
+public class LoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final String[] SEARCH_TERMS = {"gupta", "sharma", "ananya", "rohan", "banerjee", "LT-0042"};
+
+    private final boolean drive;
+    private final int clients;
+    private final Duration warmUp;
+    private final Duration duration;
+    private final double adminShare;
+    private final int students;
+    private final String studentPassword;
+    private final String adminUsername;
+    private final String adminPassword;
+    private final boolean exitWhenDone;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    public LoadGenerator(@Value("${srms.loadtest.drive:true}") boolean drive,
+                         @Value("${srms.loadtest.clients:50}") int clients,
+                         @Value("${srms.loadtest.warm-up:15s}") Duration warmUp,
+                         @Value("${srms.loadtest.duration:60s}") Duration duration,
+                         @Value("${srms.loadtest.admin-share:0.1}") double adminShare,
+                         @Value("${srms.loadtest.students:100000}") int students,
+                         @Value("${srms.loadtest.password:loadtest123}") String studentPassword,
+                         @Value("${srms.loadtest.admin-username:admin}") String adminUsername,
+                         @Value("${srms.loadtest.admin-password:admin123}") String adminPassword,
+                         @Value("${srms.loadtest.exit-when-done:false}") boolean exitWhenDone) {
+        this.drive = drive;
+        this.clients = clients;
+        this.warmUp = warmUp;
+        this.duration = duration;
+        this.adminShare = adminShare;
+        this.students = students;
+        this.studentPassword = studentPassword;
+        this.adminUsername = adminUsername;
+        this.adminPassword = adminPassword;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    // After the other ready listeners, which load the ranking and search indexes
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void start(ApplicationReadyEvent event) {
+        if (!drive) {
+            return;
+        }
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        Thread driver = new Thread(() -> {
+            try {
+                run("http://localhost:" + port);
+            } catch (Exception e) {
+                log.error("Load test aborted", e);
+            }
+            if (exitWhenDone) {
+                System.exit(SpringApplication.exit(context));
+            }
+        }, "load-generator");
+        driver.setDaemon(true);
+        driver.start();
+    }
+
+    private void run(String baseUrl) throws Exception {
+        log.info("Load test: {} clients against {}, {} warm-up then {} measured", clients, baseUrl, warmUp, duration);
+        LatencyRecorder recorder = new LatencyRecorder();
+        long measureFrom = System.nanoTime() + warmUp.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<?>> sessions = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                sessions.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Session session = new Session(baseUrl, recorder, measureFrom);
+                        if (ThreadLocalRandom.current().nextDouble() < adminShare) {
+                            adminSession(session);
+                        } else {
+                            studentSession(session);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> session : sessions) {
+                session.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("Load test finished ({} clients, {} s measured):", clients, duration.toSeconds());
+        recorder.report(duration.toNanos()).forEach(log::info);
+    }
+
+    private void studentSession(Session session) throws Exception {
+        int n = ThreadLocalRandom.current().nextInt(students) + 1;
+        if (!session.login("student login", String.format(SyntheticInstituteSeeder.USERNAME_FORMAT, n), studentPassword)) {
+            return;
+        }
+        session.get("student dashboard", "/student/dashboard");
+        session.get("student results", "/student/results");
+        session.get("student results pdf", "/student/results/pdf");
+        session.logout();
+    }
+
+    private void adminSession(Session session) throws Exception {
+        if (!session.login("admin login", adminUsername, adminPassword)) {
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        session.get("admin dashboard", "/admin/dashboard");
+        session.get("admin results page", "/admin/results?page=" + random.nextInt(Math.max(students / 10, 1)));
+        session.get("admin results search", "/admin/results?keyword="
+                + URLEncoder.encode(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], StandardCharsets.UTF_8));
+        session.logout();
+    }
+
+    // One logged-in browser: its session cookie, and the timing of each request it makes
+    private final class Session {
+        private final String baseUrl;
+        private final LatencyRecorder recorder;
+        private final long measureFrom;
+        private String cookie;
+
+        Session(String baseUrl, LatencyRecorder recorder, long measureFrom) {
+            this.baseUrl = baseUrl;
+            this.recorder = recorder;
+            this.measureFrom = measureFrom;
+        }
+
+        boolean login(String step, String username, String password) throws Exception {
+            String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                    + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+            HttpResponse<Void> response = send(step, HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form)), 302);
+            cookie = response.headers().allValues("Set-Cookie").stream()
+                    .filter(value -> value.startsWith("JSESSIONID="))
+                    .map(value -> value.substring(0, value.indexOf(';')))
+                    .findFirst().orElse(null);
+            boolean ok = cookie != null && response.headers().firstValue("Location").orElse("").endsWith("/default");
+            if (!ok && System.nanoTime() >= measureFrom) {
+                log.warn("Login failed for {}", username);
+            }
+            return ok;
+        }
+
+        void get(String step, String path) throws Exception {
+            send(step, HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Cookie", cookie).GET(), 200);
+        }
+
+        void logout() throws Exception {
+            send("logout", HttpRequest.newBuilder(URI.create(baseUrl + "/logout")).header("Cookie", cookie)
+                    .POST(HttpRequest.BodyPublishers.noBody()), 302);
+        }
+
+        private HttpResponse<Void> send(String step, HttpRequest.Builder request, int expectedStatus) throws Exception {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = http.send(request.timeout(Duration.ofSeconds(60)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            if (start >= measureFrom) {
+                recorder.record(step, System.nanoTime() - start, response.statusCode() == expectedStatus);
+            }
+            return response;
+        }
+    }
+}
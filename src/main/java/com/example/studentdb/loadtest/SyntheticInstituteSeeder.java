@@ -0,0 +1,185 @@
+package com.example.studentdb.loadtest;
+
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.service.ResultSummaryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seeds a synthetic institute for the loadtest profile: {@code srms.loadtest.students} students,
+ * each with a login and a mark in every one of {@code srms.loadtest.subjects} subjects.
+ * <p>
+ * Rows go in through plain JDBC batches, a thousand students per transaction, and every user
+ * shares one password hash computed up front; hashing per row would take longer than the inserts.
+ * The result summary is rebuilt once at the end, and the in-memory indexes load themselves when
+ * the application is ready, after this runner. Skipped when the students already exist.
+ */
+@Component
+@Profile("loadtest")
+public class SyntheticInstituteSeeder implements ApplicationRunner {
+
+    static final String USERNAME_FORMAT = "lt-student-%06d@srms.test";
+    static final String ROLL_NUMBER_FORMAT = "LT-%06d";
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticInstituteSeeder.class);
+
+    private static final int CHUNK_SIZE = 1_000;
+    // Must match allocationSize on Mark's @SequenceGenerator
+    private static final int MARK_ID_BLOCK = 50;
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Ananya", "Arjun", "Diya", "Ishaan", "Kavya", "Neha",
+            "Pratyush", "Riya", "Rohan", "Saanvi", "Siddharth", "Sneha", "Vihaan", "Zara", "Aditya", "Meera",
+            "Kabir", "Tara", "Yash"};
+    private static final String[] LAST_NAMES = {"Gupta", "Sharma", "Banerjee", "Chatterjee", "Das", "Sen",
+            "Mukherjee", "Roy", "Bose", "Iyer", "Nair", "Patel", "Singh", "Verma", "Khan", "Ghosh"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ResultSummaryService resultSummaryService;
+    private final SubjectRepository subjectRepository;
+    private final int students;
+    private final int subjects;
+    private final String password;
+
+    public SyntheticInstituteSeeder(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    PasswordEncoder passwordEncoder,
+                                    ResultSummaryService resultSummaryService,
+                                    SubjectRepository subjectRepository,
+                                    @Value("${srms.loadtest.students:100000}") int students,
+                                    @Value("${srms.loadtest.subjects:12}") int subjects,
+                                    @Value("${srms.loadtest.password:loadtest123}") String password) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.resultSummaryService = resultSummaryService;
+        this.subjectRepository = subjectRepository;
+        this.students = students;
+        this.subjects = subjects;
+        this.password = password;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "select count(*) from students where roll_number like 'LT-%'", Integer.class);
+        if (existing != null && existing > 0) {
+            log.info("Synthetic institute already present ({} students), not seeding", existing);
+            return;
+        }
+
+        long start = System.nanoTime();
+        String passwordHash = passwordEncoder.encode(password);
+        List<Long> subjectIds = ensureSubjects();
+        Random random = new Random(42);
+
+        for (int from = 1; from <= students; from += CHUNK_SIZE) {
+            int first = from;
+            int last = Math.min(from + CHUNK_SIZE - 1, students);
+            transactionTemplate.executeWithoutResult(status -> seedChunk(first, last, passwordHash, subjectIds, random));
+            if (last % (CHUNK_SIZE * 10) == 0 || last == students) {
+                log.info("Seeded {} / {} students", last, students);
+            }
+        }
+        int summaries = resultSummaryService.rebuildAll();
+        log.info("Seeded {} students x {} subjects ({} result summaries) in {} s", students, subjects, summaries,
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    // Through the repository rather than JDBC, so the cached subject list sees the new rows
+    private List<Long> ensureSubjects() {
+        Set<String> existing = subjectRepository.findAll().stream().map(Subject::getName).collect(Collectors.toSet());
+        List<Subject> missing = new ArrayList<>();
+        for (int i = 1; i <= subjects; i++) {
+            String name = String.format("Load Subject %02d", i);
+            if (!existing.contains(name)) {
+                Subject subject = new Subject();
+                subject.setName(name);
+                missing.add(subject);
+            }
+        }
+        subjectRepository.saveAll(missing);
+        return subjectRepository.findAll().stream()
+                .filter(subject -> subject.getName() != null && subject.getName().startsWith("Load Subject "))
+                .sorted(Comparator.comparing(Subject::getName))
+                .map(Subject::getId)
+                .toList();
+    }
+
+    private void seedChunk(int first, int last, String passwordHash, List<Long> subjectIds, Random random) {
+        List<Object[]> users = new ArrayList<>(last - first + 1);
+        for (int n = first; n <= last; n++) {
+            users.add(new Object[] {String.format(USERNAME_FORMAT, n), passwordHash, "STUDENT"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (username, password, role) values (?, ?, ?)", users);
+        // Zero-padded, so each chunk is one contiguous range of the unique index
+        Map<String, Long> userIds = idsByKey("select username, id from users where username between ? and ?",
+                String.format(USERNAME_FORMAT, first), String.format(USERNAME_FORMAT, last));
+
+        List<Object[]> rows = new ArrayList<>(last - first + 1);
+        for (int n = first; n <= last; n++) {
+            String username = String.format(USERNAME_FORMAT, n);
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            rows.add(new Object[] {name, username, String.format(ROLL_NUMBER_FORMAT, n), userIds.get(username)});
+        }
+        jdbcTemplate.batchUpdate("insert into students (name, email, roll_number, user_id) values (?, ?, ?, ?)", rows);
+        Map<String, Long> studentIds = idsByKey("select roll_number, id from students where roll_number between ? and ?",
+                String.format(ROLL_NUMBER_FORMAT, first), String.format(ROLL_NUMBER_FORMAT, last));
+
+        List<Object[]> marks = new ArrayList<>((last - first + 1) * subjectIds.size());
+        long[] markIds = nextMarkIds((last - first + 1) * subjectIds.size());
+        int next = 0;
+        for (int n = first; n <= last; n++) {
+            Long studentId = studentIds.get(String.format(ROLL_NUMBER_FORMAT, n));
+            // A per-student level plus per-subject spread, so totals and ranks are not uniform noise
+            double level = 60 + random.nextGaussian() * 15;
+            for (Long subjectId : subjectIds) {
+                int mark = (int) Math.round(Math.max(0, Math.min(100, level + random.nextGaussian() * 10)));
+                marks.add(new Object[] {markIds[next++], mark, studentId, subjectId});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into marks (id, marks, student_id, subject_id) values (?, ?, ?, ?)", marks);
+    }
+
+    private Map<String, Long> idsByKey(String sql, String from, String to) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            ids.put(rs.getString(1), rs.getLong(2));
+        }, from, to);
+        return ids;
+    }
+
+    // Same blocks Hibernate's pooled optimizer takes: each sequence value v covers (v - 50, v]
+    private long[] nextMarkIds(int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            Long value = jdbcTemplate.queryForObject("select nextval('marks_seq')", Long.class);
+            for (long id = value - MARK_ID_BLOCK + 1; id <= value && filled < count; id++) {
+                ids[filled++] = id;
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.studentdb.metrics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks {@link RequestQueryCounter} into Hibernate: as the statement inspector, and as a
+ * post-load listener for entity loads.
+ */
+@Configuration
+public class QueryCountingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounting(RequestQueryCounter counter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+    }
+
+    // Listeners can only be added once the session factory exists
+    @Bean
+    public SmartInitializingSingleton entityLoadCounting(EntityManagerFactory entityManagerFactory,
+                                                         RequestQueryCounter counter) {
+        return () -> entityManagerFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> counter.entityLoaded());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.studentdb.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how many SQL statements and entity loads each request caused, per endpoint, and
+ * logs a warning for requests over the statement or latency budget. Request timings per
+ * endpoint come from Spring's own {@code http.server.requests} timer.
+ * <p>
+ * Outermost filter, so the security chain's queries (the login lookup) are counted too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private final RequestQueryCounter counter;
+    private final MeterRegistry meterRegistry;
+    private final long maxStatements;
+    private final Duration maxLatency;
+
+    public RequestMetricsFilter(RequestQueryCounter counter, MeterRegistry meterRegistry,
+                                @Value("${srms.request-budget.max-statements:20}") long maxStatements,
+                                @Value("${srms.request-budget.max-latency:500ms}") Duration maxLatency) {
+        this.counter = counter;
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxLatency = maxLatency;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        counter.begin();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            RequestQueryCounter.Counts counts = counter.end();
+            String uri = uriPattern(request);
+
+            summary("srms.request.sql.statements", "SQL statements prepared by one request", request, uri)
+                    .record(counts.getStatements());
+            summary("srms.request.entity.loads", "Entities loaded by one request", request, uri)
+                    .record(counts.getEntityLoads());
+
+            if (counts.getStatements() > maxStatements || elapsedMillis > maxLatency.toMillis()) {
+                log.warn("Over budget: {} {} ({}) took {} ms and ran {} SQL statements, {} entity loads (budget {} ms, {} statements)",
+                        request.getMethod(), request.getRequestURI(), uri, elapsedMillis, counts.getStatements(),
+                        counts.getEntityLoads(), maxLatency.toMillis(), maxStatements);
+            }
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, HttpServletRequest request, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+
+    // The mapped pattern (/admin/students/edit/{id}), so ids do not each become a series
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.studentdb.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares and the entities it loads on the current
+ * thread, between {@link #begin()} and {@link #end()}. Work handed to other threads (bulk
+ * exports, imports) is not attributed to the request that started it.
+ */
+@Component
+public class RequestQueryCounter implements StatementInspector {
+
+    private final ThreadLocal<Counts> current = new ThreadLocal<>();
+
+    public void begin() {
+        current.set(new Counts());
+    }
+
+    public Counts end() {
+        Counts counts = current.get();
+        current.remove();
+        return counts != null ? counts : new Counts();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = current.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+        return sql;
+    }
+
+    void entityLoaded() {
+        Counts counts = current.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    public static final class Counts {
+        private long statements;
+        private long entityLoads;
+
+        public long getStatements() { return statements; }
+        public long getEntityLoads() { return entityLoads; }
+    }
+}
@@ -1,15 +1,70 @@
 package com.example.studentdb.repository;
 
+import com.example.studentdb.dto.MarkFrequency;
+import com.example.studentdb.dto.MarkScore;
+import com.example.studentdb.dto.SubjectMarkDTO;
 import com.example.studentdb.entity.Mark;
 import com.example.studentdb.entity.Student;
 import com.example.studentdb.entity.Subject;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MarkRepository extends JpaRepository<Mark, Long> {
+
+    // Marks listing shows roll number, name and subject: fetch them in the same select
+    @Override
+    @EntityGraph(attributePaths = {"student", "student.user", "subject"})
+    List<Mark> findAll();
+
+    @EntityGraph(attributePaths = "subject")
     List<Mark> findByStudent(Student student);
+
     Optional<Mark> findByStudentAndSubject(Student student, Subject subject);
 
+    // Subject-wise marks for a whole page of students in a single select
+    @Query("select new com.example.studentdb.dto.SubjectMarkDTO(m.student.id, sub.id, sub.name, m.marks) " +
+            "from Mark m join m.subject sub " +
+            "where m.student.id in :studentIds " +
+            "order by sub.name")
+    List<SubjectMarkDTO> findSubjectMarks(@Param("studentIds") Collection<Long> studentIds);
+
+    // Existing (student, subject) pairs, used by bulk imports to skip duplicates without a select per row
+    interface StudentSubjectPair {
+        Long getStudentId();
+        Long getSubjectId();
+    }
+
+    @Query("select m.student.id as studentId, m.subject.id as subjectId from Mark m")
+    List<StudentSubjectPair> findAllStudentSubjectPairs();
+
+    // ----- Scalar marks for the in-memory ranking index -----
+    @Query("select new com.example.studentdb.dto.MarkScore(m.student.id, m.subject.id, m.marks) from Mark m")
+    List<MarkScore> findAllScores();
+
+    @Query("select new com.example.studentdb.dto.MarkScore(m.student.id, m.subject.id, m.marks) " +
+            "from Mark m where m.student.id in :studentIds")
+    List<MarkScore> findScores(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("select new com.example.studentdb.dto.MarkScore(m.student.id, m.subject.id, m.marks) " +
+            "from Mark m where m.subject.id = :subjectId and m.student.id in :studentIds")
+    List<MarkScore> findScores(@Param("subjectId") Long subjectId, @Param("studentIds") Collection<Long> studentIds);
+
+    // Set-based, for cohort archival: one statement instead of a cascade that loads every mark
+    @Modifying
+    @Query("delete from Mark m where m.student.id in :studentIds")
+    int deleteByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
+    // ----- Score distribution per subject: at most one row per distinct mark, in mark order -----
+    @Query("select new com.example.studentdb.dto.MarkFrequency(m.subject.id, m.marks, count(m)) " +
+            "from Mark m where m.subject.id in :subjectIds and m.marks is not null " +
+            "group by m.subject.id, m.marks " +
+            "order by m.subject.id, m.marks")
+    List<MarkFrequency> findMarkFrequencies(@Param("subjectIds") Collection<Long> subjectIds);
 }
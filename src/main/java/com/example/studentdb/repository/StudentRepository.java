@@ -1,13 +1,136 @@
 package com.example.studentdb.repository;
 
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.dto.StudentDTO;
+import com.example.studentdb.dto.StudentSuggestion;
 import com.example.studentdb.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 //import java.lang.ScopedValue;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
+
+    // Student.user is an eager one-to-one: join it into the student select instead of one select per row
+    @Override
+    @EntityGraph(attributePaths = "user")
+    List<Student> findAll();
+
+    @EntityGraph(attributePaths = "user")
     Student findByUserUsername(String username);
     List<Student> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email);
+    // Paged variant: Spring Data issues the row query with LIMIT/OFFSET plus a separate count query
+    Page<Student> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email, Pageable pageable);
+    @EntityGraph(attributePaths = "user")
     Student findByEmail(String email);
+
+    @Query("select s.id from Student s where s.email = :email")
+    Long findIdByEmail(@Param("email") String email);
+
+    // ----- Result summaries: totals, subject count and lowest mark read from student_result_summary -----
+    // (maintained by ResultSummaryService; students without marks have no row yet, hence the left join)
+    @Query(value = "select new com.example.studentdb.dto.ResultSummary(" +
+            "s.id, s.name, s.email, s.rollNumber, rs.totalMarks, rs.subjectCount, rs.minMark) " +
+            "from Student s left join StudentResultSummary rs on rs.studentId = s.id",
+            countQuery = "select count(s) from Student s")
+    Page<ResultSummary> findResultSummaries(Pageable pageable);
+
+    // One page of keyword matches, resolved to ids by StudentSearchIndex (primary-key lookup)
+    @Query("select new com.example.studentdb.dto.ResultSummary(" +
+            "s.id, s.name, s.email, s.rollNumber, rs.totalMarks, rs.subjectCount, rs.minMark) " +
+            "from Student s left join StudentResultSummary rs on rs.studentId = s.id " +
+            "where s.id in :ids " +
+            "order by s.id")
+    List<ResultSummary> findResultSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.example.studentdb.dto.ResultSummary(" +
+            "s.id, s.name, s.email, s.rollNumber, rs.totalMarks, rs.subjectCount, rs.minMark) " +
+            "from Student s left join StudentResultSummary rs on rs.studentId = s.id " +
+            "where s.id = :studentId")
+    ResultSummary findResultSummary(@Param("studentId") Long studentId);
+
+    // Keyset page (id > afterId) for walking the whole cohort without OFFSET scans
+    @Query("select new com.example.studentdb.dto.ResultSummary(" +
+            "s.id, s.name, s.email, s.rollNumber, rs.totalMarks, rs.subjectCount, rs.minMark) " +
+            "from Student s left join StudentResultSummary rs on rs.studentId = s.id " +
+            "where s.id > :afterId " +
+            "order by s.id")
+    List<ResultSummary> findResultSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ----- JSON API: lean rows, streamed with a JDBC fetch size or read in keyset pages -----
+    @Query("select new com.example.studentdb.dto.StudentDTO(s.id, s.name, s.email, s.rollNumber) " +
+            "from Student s order by s.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<StudentDTO> streamAllStudents();
+
+    @Query("select new com.example.studentdb.dto.StudentDTO(s.id, s.name, s.email, s.rollNumber) " +
+            "from Student s where s.id > :afterId order by s.id")
+    List<StudentDTO> findStudentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ----- Searchable fields for StudentSearchIndex -----
+    @Query("select new com.example.studentdb.dto.StudentSuggestion(s.id, s.name, s.email, s.rollNumber) from Student s")
+    List<StudentSuggestion> findAllSuggestions();
+
+    @Query("select new com.example.studentdb.dto.StudentSuggestion(s.id, s.name, s.email, s.rollNumber) " +
+            "from Student s where s.id in :ids")
+    List<StudentSuggestion> findSuggestions(@Param("ids") Collection<Long> ids);
+
+    // One page of the mark-entry grid: no user join, unlike a page of Student entities
+    @Query(value = "select new com.example.studentdb.dto.StudentSuggestion(s.id, s.name, s.email, s.rollNumber) " +
+            "from Student s",
+            countQuery = "select count(s) from Student s")
+    Page<StudentSuggestion> findSuggestionPage(Pageable pageable);
+
+    // ----- Names for leaderboard pages -----
+    interface StudentLabel {
+        Long getId();
+        String getName();
+        String getRollNumber();
+    }
+
+    @Query("select s.id as id, s.name as name, s.rollNumber as rollNumber from Student s where s.id in :ids")
+    List<StudentLabel> findLabels(@Param("ids") Collection<Long> ids);
+
+    // ----- Lookup map for bulk imports -----
+    interface RollNumberId {
+        String getRollNumber();
+        Long getId();
+    }
+
+    @Query("select s.rollNumber as rollNumber, s.id as id from Student s where s.rollNumber is not null")
+    List<RollNumberId> findAllRollNumberIds();
+
+    @Query("select s.rollNumber from Student s where s.rollNumber in :rollNumbers")
+    List<String> findExistingRollNumbers(@Param("rollNumbers") Collection<String> rollNumbers);
+
+    // ----- Cohort archival: ids only, then set-based deletes (no cascade, so marks go first) -----
+    // The prefix must already have LIKE wildcards escaped with '\'
+    @Query("select s.id from Student s where s.rollNumber like concat(:prefix, '%') escape '\\' order by s.id")
+    List<Long> findIdsByRollNumberPrefix(@Param("prefix") String prefix);
+
+    @Query("select s.id from Student s where s.id in :ids order by s.id")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    interface StudentLogin {
+        Long getUserId();
+        String getUsername();
+    }
+
+    @Query("select u.id as userId, u.username as username from Student s join s.user u where s.id in :ids")
+    List<StudentLogin> findLogins(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Student s where s.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
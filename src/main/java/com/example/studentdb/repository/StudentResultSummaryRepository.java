@@ -0,0 +1,68 @@
+package com.example.studentdb.repository;
+
+import com.example.studentdb.entity.StudentResultSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StudentResultSummaryRepository extends JpaRepository<StudentResultSummary, Long> {
+
+    String RECOMPUTE_SELECT =
+            "select s.id, coalesce(sum(m.marks), 0), count(m.id), min(m.marks), " +
+            "case when count(m.id) = 0 or min(m.marks) < :passMark then 'Fail' else 'Pass' end " +
+            "from students s left join marks m on m.student_id = s.id ";
+
+    // Declares the only table these native statements write; otherwise Hibernate would empty every
+    // second-level cache region (subjects, users) after each marks change
+    String SUMMARY_TABLE = "student_result_summary";
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SUMMARY_TABLE))
+    @Query(value = "delete from student_result_summary where student_id in (:studentIds)", nativeQuery = true)
+    int deleteForStudents(@Param("studentIds") Collection<Long> studentIds);
+
+    // Serializes summary refreshes per student: the second waits for the first to commit, then
+    // recomputes from marks that include the first one's
+    @Query(value = "select id from students where id in (:studentIds) order by id for update", nativeQuery = true)
+    List<Long> lockStudents(@Param("studentIds") Collection<Long> studentIds);
+
+    // PostgreSQL
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SUMMARY_TABLE))
+    @Query(value = "insert into student_result_summary (student_id, total_marks, subject_count, min_mark, status) " +
+            RECOMPUTE_SELECT + "where s.id in (:studentIds) group by s.id " +
+            "on conflict (student_id) do update set total_marks = excluded.total_marks, " +
+            "subject_count = excluded.subject_count, min_mark = excluded.min_mark, status = excluded.status",
+            nativeQuery = true)
+    int upsertForStudents(@Param("studentIds") Collection<Long> studentIds, @Param("passMark") int passMark);
+
+    // H2 (tests), which only supports on conflict do nothing
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SUMMARY_TABLE))
+    @Query(value = "merge into student_result_summary t using (" +
+            RECOMPUTE_SELECT + "where s.id in (:studentIds) group by s.id" +
+            ") v (student_id, total_marks, subject_count, min_mark, status) on t.student_id = v.student_id " +
+            "when matched then update set total_marks = v.total_marks, subject_count = v.subject_count, " +
+            "min_mark = v.min_mark, status = v.status " +
+            "when not matched then insert (student_id, total_marks, subject_count, min_mark, status) " +
+            "values (v.student_id, v.total_marks, v.subject_count, v.min_mark, v.status)", nativeQuery = true)
+    int mergeForStudents(@Param("studentIds") Collection<Long> studentIds, @Param("passMark") int passMark);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SUMMARY_TABLE))
+    @Query(value = "delete from student_result_summary", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SUMMARY_TABLE))
+    @Query(value = "insert into student_result_summary (student_id, total_marks, subject_count, min_mark, status) " +
+            RECOMPUTE_SELECT + "group by s.id", nativeQuery = true)
+    int insertAllRows(@Param("passMark") int passMark);
+}
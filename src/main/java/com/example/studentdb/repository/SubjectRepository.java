@@ -1,7 +1,18 @@
 package com.example.studentdb.repository;
 
 import com.example.studentdb.entity.Subject;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface SubjectRepository extends JpaRepository<Subject, Long> {
+
+    // Query cache: served from memory until a subject is written
+    @Override
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "subject-queries")})
+    List<Subject> findAll();
 }
@@ -1,8 +1,28 @@
 package com.example.studentdb.repository;
 
 import com.example.studentdb.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Query cache: only ids are stored, the User itself comes from the entity region
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-queries")})
     User findByUsername(String username);
+
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    // A JPQL bulk delete also clears the users cache regions, so no stale login survives it
+    @Modifying
+    @Query("delete from User u where u.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,95 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link UserCache} for the {@code DaoAuthenticationProvider}: repeated logins skip the
+ * {@code users} lookup. LRU-bounded by entry count, and every entry expires after a fixed TTL,
+ * so out-of-band changes (e.g. a password reset in the database) are picked up eventually.
+ * Code that creates, renames or deletes users evicts the affected usernames right away.
+ * <p>
+ * Entries are stored and handed out as copies: after a successful login Spring Security
+ * erases the password of the {@code UserDetails} it returned, which must not reach the cache.
+ */
+@Component
+public class BoundedUserCache implements UserCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    // Access-ordered, so the eldest entry is the least recently used. Guarded by "this".
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedUserCache(@Value("${srms.user-cache.max-size:10000}") int maxEntries,
+                            @Value("${srms.user-cache.ttl:10m}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > BoundedUserCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(username);
+            if (entry != null && System.nanoTime() - entry.cachedAt > ttlNanos) {
+                entries.remove(username);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return User.withUserDetails(entry.user).build();
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (maxEntries <= 0 || user.getPassword() == null) {
+            return;
+        }
+        Entry entry = new Entry(User.withUserDetails(user).build(), System.nanoTime());
+        synchronized (this) {
+            entries.put(user.getUsername(), entry);
+        }
+    }
+
+    @Override
+    public synchronized void removeUserFromCache(String username) {
+        if (username != null) {
+            entries.remove(username);
+        }
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), 0);
+    }
+
+    private record Entry(UserDetails user, long cachedAt) {
+    }
+}
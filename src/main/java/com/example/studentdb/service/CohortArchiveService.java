@@ -0,0 +1,176 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.BulkJobStatus;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.MarkRepository;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.StudentResultSummaryRepository;
+import com.example.studentdb.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Removes a whole cohort (graduated batch) of students with their marks and logins, keeping a
+ * copy in the {@code archived_*} tables.
+ * <p>
+ * The cohort is resolved to ids once; each chunk of ids is then copied and deleted with a fixed
+ * number of set-based statements in its own transaction, instead of loading every student and
+ * letting the cascade delete their marks one row at a time. Progress is reported per chunk.
+ */
+@Service
+public class CohortArchiveService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final int MAX_TRACKED_JOBS = 50;
+
+    // Archive tables are not mapped, so the copies go through JDBC and never touch Hibernate's caches
+    private static final String ARCHIVE_MARKS =
+            "insert into archived_marks (id, marks, student_id, subject_id, subject_name, archived_at) " +
+            "select m.id, m.marks, m.student_id, m.subject_id, sub.name, current_timestamp " +
+            "from marks m left join subjects sub on sub.id = m.subject_id where m.student_id in (:ids)";
+    private static final String ARCHIVE_STUDENTS =
+            "insert into archived_students (id, name, email, roll_number, user_id, archived_at) " +
+            "select s.id, s.name, s.email, s.roll_number, s.user_id, current_timestamp " +
+            "from students s where s.id in (:ids)";
+    private static final String ARCHIVE_USERS =
+            "insert into archived_users (id, username, role, archived_at) " +
+            "select u.id, u.username, u.role, current_timestamp " +
+            "from users u join students s on s.user_id = u.id where s.id in (:ids)";
+
+    private final StudentRepository studentRepository;
+    private final UserRepository userRepository;
+    private final MarkRepository markRepository;
+    private final StudentResultSummaryRepository summaryRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor bulkJobExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCache userCache;
+
+    // Most recent jobs by id, oldest evicted first
+    private final Map<String, BulkJobStatus> jobs = new LinkedHashMap<>();
+
+    public CohortArchiveService(StudentRepository studentRepository,
+                                UserRepository userRepository,
+                                MarkRepository markRepository,
+                                StudentResultSummaryRepository summaryRepository,
+                                NamedParameterJdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                @Qualifier("bulkJobExecutor") ThreadPoolTaskExecutor bulkJobExecutor,
+                                ApplicationEventPublisher eventPublisher,
+                                UserCache userCache) {
+        this.studentRepository = studentRepository;
+        this.userRepository = userRepository;
+        this.markRepository = markRepository;
+        this.summaryRepository = summaryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.bulkJobExecutor = bulkJobExecutor;
+        this.eventPublisher = eventPublisher;
+        this.userCache = userCache;
+    }
+
+    // Exactly one of rollNumberPrefix and studentIds; ids that do not exist are ignored.
+    // Throws TaskRejectedException when the bulk job queue is full.
+    public BulkJobStatus startArchive(String rollNumberPrefix, Collection<Long> studentIds) {
+        boolean byPrefix = rollNumberPrefix != null && !rollNumberPrefix.isBlank();
+        boolean byIds = studentIds != null && !studentIds.isEmpty();
+        if (byPrefix == byIds) {
+            throw new IllegalArgumentException("Give either a roll number prefix or a list of student ids");
+        }
+        List<Long> cohort = byPrefix
+                ? studentRepository.findIdsByRollNumberPrefix(escapeLike(rollNumberPrefix.trim()))
+                : studentRepository.findExistingIds(studentIds);
+
+        BulkJobStatus job = new BulkJobStatus(cohort.size());
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            if (jobs.size() > MAX_TRACKED_JOBS) {
+                jobs.values().removeIf(j -> j.isFinished() && jobs.size() > MAX_TRACKED_JOBS);
+            }
+        }
+        try {
+            bulkJobExecutor.execute(() -> runArchive(job, cohort));
+        } catch (TaskRejectedException e) {
+            // Never started, so it would stay QUEUED (and never be evicted) if kept
+            synchronized (jobs) {
+                jobs.remove(job.getId());
+            }
+            throw e;
+        }
+        return job;
+    }
+
+    public Optional<BulkJobStatus> findJob(String jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId));
+        }
+    }
+
+    private void runArchive(BulkJobStatus job, List<Long> cohort) {
+        job.start();
+        try {
+            for (int from = 0; from < cohort.size(); from += CHUNK_SIZE) {
+                archiveChunk(job, cohort.subList(from, Math.min(from + CHUNK_SIZE, cohort.size())), from);
+            }
+            job.complete();
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void archiveChunk(BulkJobStatus job, List<Long> studentIds, int offset) {
+        Map<String, Collection<Long>> ids = Map.of("ids", studentIds);
+        try {
+            ArchivedChunk archived = transactionTemplate.execute(status -> {
+                List<StudentRepository.StudentLogin> logins = studentRepository.findLogins(studentIds);
+                jdbcTemplate.update(ARCHIVE_MARKS, ids);
+                jdbcTemplate.update(ARCHIVE_STUDENTS, ids);
+                jdbcTemplate.update(ARCHIVE_USERS, ids);
+
+                // Children first: marks and summaries reference students, students reference users
+                markRepository.deleteByStudentIds(studentIds);
+                summaryRepository.deleteForStudents(studentIds);
+                int deleted = studentRepository.deleteAllByIdIn(studentIds);
+                List<Long> userIds = logins.stream().map(StudentRepository.StudentLogin::getUserId).toList();
+                if (!userIds.isEmpty()) {
+                    userRepository.deleteAllByIdIn(userIds);
+                }
+                return new ArchivedChunk(logins, deleted);
+            });
+            // Students removed by someone else since the cohort was resolved count as processed only
+            job.progress(studentIds.size(), archived.deleted());
+            for (StudentRepository.StudentLogin login : archived.logins()) {
+                userCache.removeUserFromCache(login.getUsername());
+            }
+            eventPublisher.publishEvent(StudentDataChangedEvent.deleted(studentIds));
+        } catch (DataAccessException e) {
+            // e.g. archived earlier under the same ids; the chunk was rolled back as a whole
+            String reason = "Chunk rejected by the database: " + e.getMostSpecificCause().getMessage();
+            for (int i = 0; i < studentIds.size(); i++) {
+                job.error(offset + i + 1, reason);
+            }
+            job.progress(studentIds.size(), 0);
+        }
+    }
+
+    private record ArchivedChunk(List<StudentRepository.StudentLogin> logins, int deleted) {
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.studentdb.service;
+
+import java.util.Locale;
+
+// Minimal CSV line handling shared by the bulk importers (no embedded commas or newlines)
+final class CsvRows {
+
+    private CsvRows() {
+    }
+
+    static String[] split(String line) {
+        String[] cols = line.split(",", -1);
+        for (int i = 0; i < cols.length; i++) {
+            String col = cols[i].trim();
+            if (col.length() >= 2 && col.startsWith("\"") && col.endsWith("\"")) {
+                col = col.substring(1, col.length() - 1).trim();
+            }
+            cols[i] = col;
+        }
+        return cols;
+    }
+
+    // A header row is recognised by its first column name, e.g. "rollNumber" or "name"
+    static boolean isHeader(String[] cols, String firstColumnPrefix) {
+        return cols.length > 0 && cols[0].toLowerCase(Locale.ROOT).startsWith(firstColumnPrefix);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Saves one subject's marks for a whole grid of students in a single statement batch.
+ * <p>
+ * Each cell is an upsert on the {@code (student_id, subject_id)} unique key, so a new mark and a
+ * corrected one travel together and no existing mark is read before it is written. PostgreSQL gets
+ * {@code INSERT ... ON CONFLICT DO UPDATE}; H2 (the test database) only supports
+ * {@code DO NOTHING} there, so it gets the equivalent {@code MERGE}.
+ */
+@Service
+public class MarkGridService {
+
+    static final int BATCH_SIZE = 500;
+
+    // New rows take a whole marks_seq value as their id: the block it stands for is then never
+    // handed to Hibernate's pooled optimizer, which allocates from the same sequence
+    private static final String POSTGRES_UPSERT =
+            "insert into marks (id, student_id, subject_id, marks) values (nextval('marks_seq'), ?, ?, ?) " +
+            "on conflict (student_id, subject_id) do update set marks = excluded.marks";
+
+    private static final String MERGE_UPSERT =
+            "merge into marks m " +
+            "using (values (cast(? as bigint), cast(? as bigint), cast(? as integer))) v (student_id, subject_id, marks) " +
+            "on m.student_id = v.student_id and m.subject_id = v.subject_id " +
+            "when matched then update set marks = v.marks " +
+            "when not matched then insert (id, student_id, subject_id, marks) " +
+            "values (nextval('marks_seq'), v.student_id, v.subject_id, v.marks)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StudentRepository studentRepository;
+    private final SubjectRepository subjectRepository;
+    private final ResultSummaryService resultSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String upsertSql;
+
+    public MarkGridService(JdbcTemplate jdbcTemplate,
+                           DataSource dataSource,
+                           StudentRepository studentRepository,
+                           SubjectRepository subjectRepository,
+                           ResultSummaryService resultSummaryService,
+                           ApplicationEventPublisher eventPublisher) throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.studentRepository = studentRepository;
+        this.subjectRepository = subjectRepository;
+        this.resultSummaryService = resultSummaryService;
+        this.eventPublisher = eventPublisher;
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.upsertSql = "PostgreSQL".equals(product) ? POSTGRES_UPSERT : MERGE_UPSERT;
+    }
+
+    // Blank cells are left out by the caller. All or nothing: one bad mark or unknown id and no
+    // row is written.
+    @Transactional
+    public int saveGrid(Long subjectId, Map<Long, Integer> marksByStudent) {
+        for (Map.Entry<Long, Integer> cell : marksByStudent.entrySet()) {
+            int marks = cell.getValue();
+            if (marks < 0 || marks > 100) {
+                throw new IllegalArgumentException("Marks must be between 0 and 100: " + marks);
+            }
+        }
+        if (marksByStudent.isEmpty()) {
+            return 0;
+        }
+        // Checked up front (the subject from the second-level cache, students in one select), so a
+        // stale or tampered id is a form error rather than a foreign-key failure halfway through
+        if (subjectRepository.findById(subjectId).isEmpty()) {
+            throw new IllegalArgumentException("Unknown subject: " + subjectId);
+        }
+        Set<Long> existing = new HashSet<>(studentRepository.findExistingIds(marksByStudent.keySet()));
+        for (Long studentId : marksByStudent.keySet()) {
+            if (!existing.contains(studentId)) {
+                throw new IllegalArgumentException("Unknown student: " + studentId);
+            }
+        }
+
+        List<Object[]> rows = new ArrayList<>(marksByStudent.size());
+        for (Map.Entry<Long, Integer> cell : marksByStudent.entrySet()) {
+            rows.add(new Object[] {cell.getKey(), subjectId, cell.getValue()});
+        }
+        // With reWriteBatchedInserts each batch goes to PostgreSQL as one multi-row statement
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(upsertSql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+
+        Set<Long> studentIds = marksByStudent.keySet();
+        resultSummaryService.refresh(studentIds);
+        eventPublisher.publishEvent(new StudentDataChangedEvent(StudentDataChangedEvent.Change.MARKS,
+                List.copyOf(studentIds), List.of(subjectId)));
+        return rows.size();
+    }
+}
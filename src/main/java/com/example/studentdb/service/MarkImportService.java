@@ -0,0 +1,191 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.MarkImportReport;
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.MarkRepository;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk mark import from CSV ({@code rollNumber,subject,marks}, optional header row).
+ * <p>
+ * Rows are read one line at a time, roll numbers and subject names are resolved through
+ * maps loaded once up front, and valid rows are persisted in chunks so Hibernate can send
+ * them as JDBC batches. Nothing is selected per row.
+ */
+@Service
+public class MarkImportService {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private final StudentRepository studentRepository;
+    private final SubjectRepository subjectRepository;
+    private final MarkRepository markRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ResultSummaryService resultSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public MarkImportService(StudentRepository studentRepository,
+                             SubjectRepository subjectRepository,
+                             MarkRepository markRepository,
+                             TransactionTemplate transactionTemplate,
+                             ResultSummaryService resultSummaryService,
+                             ApplicationEventPublisher eventPublisher) {
+        this.studentRepository = studentRepository;
+        this.subjectRepository = subjectRepository;
+        this.markRepository = markRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.resultSummaryService = resultSummaryService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public MarkImportReport importCsv(InputStream in) throws IOException {
+        Map<String, Long> studentIdsByRoll = new HashMap<>();
+        for (StudentRepository.RollNumberId row : studentRepository.findAllRollNumberIds()) {
+            studentIdsByRoll.put(row.getRollNumber().trim(), row.getId());
+        }
+        Map<String, Long> subjectIdsByName = new HashMap<>();
+        for (Subject subject : subjectRepository.findAll()) {
+            if (subject.getName() != null) {
+                subjectIdsByName.put(normalise(subject.getName()), subject.getId());
+            }
+        }
+        Set<Pair> existingPairs = new HashSet<>();
+        for (MarkRepository.StudentSubjectPair pair : markRepository.findAllStudentSubjectPairs()) {
+            existingPairs.add(new Pair(pair.getStudentId(), pair.getSubjectId()));
+        }
+
+        MarkImportReport report = new MarkImportReport();
+        List<PendingMark> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] cols = CsvRows.split(line);
+                if (lineNumber == 1 && CsvRows.isHeader(cols, "roll")) {
+                    continue;
+                }
+                report.rowRead();
+
+                if (cols.length != 3) {
+                    report.error(lineNumber, "Expected 3 columns (rollNumber,subject,marks) but found " + cols.length);
+                    continue;
+                }
+                Long studentId = studentIdsByRoll.get(cols[0]);
+                if (studentId == null) {
+                    report.error(lineNumber, "Unknown roll number: " + cols[0]);
+                    continue;
+                }
+                Long subjectId = subjectIdsByName.get(normalise(cols[1]));
+                if (subjectId == null) {
+                    report.error(lineNumber, "Unknown subject: " + cols[1]);
+                    continue;
+                }
+                int marks;
+                try {
+                    marks = Integer.parseInt(cols[2]);
+                } catch (NumberFormatException e) {
+                    report.error(lineNumber, "Marks is not a number: " + cols[2]);
+                    continue;
+                }
+                if (marks < 0 || marks > 100) {
+                    report.error(lineNumber, "Marks must be between 0 and 100: " + marks);
+                    continue;
+                }
+                if (!existingPairs.add(new Pair(studentId, subjectId))) {
+                    report.error(lineNumber, "Marks for this student and subject already exist!");
+                    continue;
+                }
+
+                chunk.add(new PendingMark(lineNumber, studentId, subjectId, marks));
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, report);
+        }
+        return report;
+    }
+
+    // One transaction per chunk; Hibernate groups the inserts into hibernate.jdbc.batch_size batches
+    private void writeChunk(List<PendingMark> chunk, MarkImportReport report) {
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> subjectIds = new HashSet<>();
+        for (PendingMark pending : chunk) {
+            studentIds.add(pending.studentId);
+            subjectIds.add(pending.subjectId);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (PendingMark pending : chunk) {
+                    Mark mark = new Mark();
+                    mark.setStudent(entityManager.getReference(Student.class, pending.studentId));
+                    mark.setSubject(entityManager.getReference(Subject.class, pending.subjectId));
+                    mark.setMarks(pending.marks);
+                    entityManager.persist(mark);
+                }
+                entityManager.flush();
+                entityManager.clear();
+                // Summaries commit with the marks: one set-based recompute for the chunk's students
+                resultSummaryService.refresh(studentIds);
+            });
+            report.imported(chunk.size());
+            eventPublisher.publishEvent(new StudentDataChangedEvent(StudentDataChangedEvent.Change.MARKS,
+                    studentIds, subjectIds));
+        } catch (DataAccessException | PersistenceException e) {
+            // e.g. a concurrent admin inserted one of these pairs; the whole chunk was rolled back.
+            // The flush goes through the EntityManager directly, so its failures are not translated.
+            String reason = "Batch rejected by the database: "
+                    + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (PendingMark pending : chunk) {
+                report.error(pending.line, reason);
+            }
+        }
+    }
+
+    private static String normalise(String subjectName) {
+        return subjectName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Both ids in full: a packed long collides once an id passes 2^32
+    private record Pair(long studentId, long subjectId) {
+    }
+
+    private record PendingMark(long line, long studentId, long subjectId, int marks) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.MarkRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Single entry point for changing individual marks: the write, the student's result summary
+ * and the change event always go together.
+ */
+@Service
+public class MarkService {
+
+    private final MarkRepository markRepository;
+    private final ResultSummaryService resultSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MarkService(MarkRepository markRepository,
+                       ResultSummaryService resultSummaryService,
+                       ApplicationEventPublisher eventPublisher) {
+        this.markRepository = markRepository;
+        this.resultSummaryService = resultSummaryService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // Insert or update
+    @Transactional
+    public Mark save(Mark mark) {
+        Mark saved = markRepository.save(mark);
+        Long studentId = saved.getStudent().getId();
+        resultSummaryService.refresh(List.of(studentId));
+        eventPublisher.publishEvent(StudentDataChangedEvent.marks(studentId, saved.getSubject().getId()));
+        return saved;
+    }
+
+    @Transactional
+    public void delete(Long markId) {
+        Mark mark = markRepository.findById(markId)
+                .orElseThrow(() -> new RuntimeException("Mark not found"));
+        Long studentId = mark.getStudent().getId();
+        Long subjectId = mark.getSubject().getId();
+        markRepository.delete(mark);
+        resultSummaryService.refresh(List.of(studentId));
+        eventPublisher.publishEvent(StudentDataChangedEvent.marks(studentId, subjectId));
+    }
+}
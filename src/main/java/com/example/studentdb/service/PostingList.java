@@ -0,0 +1,46 @@
+package com.example.studentdb.service;
+
+import java.util.Arrays;
+
+// Ascending, distinct student ids in a primitive array. Not thread-safe: StudentSearchIndex guards it.
+final class PostingList {
+
+    private long[] ids = new long[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    void add(long id) {
+        // Bulk loads arrive in id order and simply append
+        int at = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+        if (at < 0) {
+            at = -at - 1;
+        } else if (at < size) {
+            return; // already present
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, at, ids, at + 1, size - at);
+        ids[at] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int at = Arrays.binarySearch(ids, 0, size, id);
+        if (at >= 0) {
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+        }
+    }
+}
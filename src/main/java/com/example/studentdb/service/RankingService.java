@@ -0,0 +1,282 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.LeaderboardEntry;
+import com.example.studentdb.dto.MarkScore;
+import com.example.studentdb.dto.Rank;
+import com.example.studentdb.dto.StudentRanking;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.MarkRepository;
+import com.example.studentdb.repository.StudentRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Overall (total marks) and per-subject ranks, served from in-memory {@link ScoreIndex}es.
+ * <p>
+ * The indexes are loaded from {@code marks} once the application is ready and then patched
+ * after every committed marks change, re-reading only the affected students. Rank lookups take
+ * O(log n) under a read lock; nothing is sorted per request.
+ */
+@Service
+public class RankingService {
+
+    // Changes touching more students than this re-sort the indexes instead of shifting per student
+    static final int BULK_THRESHOLD = 256;
+
+    private static final int ABSENT = Integer.MIN_VALUE;
+
+    private final MarkRepository markRepository;
+    private final StudentRepository studentRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock. Each student's marks by subject slot, ABSENT where there is none.
+    private final Map<Long, int[]> marksByStudent = new HashMap<>();
+    private final Map<Long, Integer> slotsBySubject = new HashMap<>();
+    private final List<Long> subjectsBySlot = new ArrayList<>();
+    private final List<ScoreIndex> subjectIndexes = new ArrayList<>();
+    private final ScoreIndex overall = new ScoreIndex();
+
+    // Serialises refreshes so an older re-read can never be applied after a newer one. A lock
+    // rather than a monitor: it is held across a query, which would pin a virtual thread.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile long epoch;
+
+    public RankingService(MarkRepository markRepository, StudentRepository studentRepository) {
+        this.markRepository = markRepository;
+        this.studentRepository = studentRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        refreshLock.lock();
+        try {
+            List<MarkScore> scores = markRepository.findAllScores();
+            lock.writeLock().lock();
+            try {
+                marksByStudent.clear();
+                for (MarkScore score : scores) {
+                    record(score);
+                }
+                reloadIndexes();
+                epoch++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentDataChanged(StudentDataChangedEvent event) {
+        if (!event.touchesMarks()) {
+            return;
+        }
+        refreshLock.lock();
+        try {
+            List<MarkScore> scores = event.getChange() == StudentDataChangedEvent.Change.DELETED
+                    ? List.of()
+                    : markRepository.findScores(event.getStudentIds());
+            lock.writeLock().lock();
+            try {
+                replace(event.getStudentIds(), scores);
+                epoch++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Bumped whenever any rank may have moved; cached result cards compare it
+    public long epoch() {
+        return epoch;
+    }
+
+    // Null when the student has no marks
+    public StudentRanking rankingFor(Long studentId) {
+        lock.readLock().lock();
+        try {
+            int[] marks = marksByStudent.get(studentId);
+            if (marks == null) {
+                return null;
+            }
+            Map<Long, Rank> bySubject = new HashMap<>();
+            for (int slot = 0; slot < marks.length; slot++) {
+                if (marks[slot] != ABSENT) {
+                    bySubject.put(subjectsBySlot.get(slot), rankIn(subjectIndexes.get(slot), marks[slot]));
+                }
+            }
+            return new StudentRanking(rankIn(overall, total(marks)), bySubject);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // One page of the leaderboard; subjectId null means overall
+    public List<LeaderboardEntry> top(Long subjectId, int offset, int limit) {
+        long[] ids;
+        int[] scores;
+        int[] ranks;
+        lock.readLock().lock();
+        try {
+            ScoreIndex index = subjectId == null ? overall : subjectIndex(subjectId);
+            int from = Math.min(Math.max(offset, 0), index == null ? 0 : index.size());
+            int to = index == null ? 0 : Math.min(index.size(), from + Math.max(limit, 0));
+            ids = new long[to - from];
+            scores = new int[to - from];
+            ranks = new int[to - from];
+            for (int i = from; i < to; i++) {
+                int score = index.scoreAt(i);
+                ids[i - from] = index.idAt(i);
+                scores[i - from] = score;
+                ranks[i - from] = i > from && score == scores[i - from - 1] ? ranks[i - from - 1] : index.rank(score);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> idList = Arrays.stream(ids).boxed().toList();
+        Map<Long, StudentRepository.StudentLabel> labels = idList.isEmpty() ? Map.of()
+                : studentRepository.findLabels(idList).stream()
+                        .collect(Collectors.toMap(StudentRepository.StudentLabel::getId, Function.identity()));
+        List<LeaderboardEntry> page = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            StudentRepository.StudentLabel label = labels.get(ids[i]);
+            page.add(new LeaderboardEntry(ranks[i], ids[i],
+                    label != null ? label.getName() : null,
+                    label != null ? label.getRollNumber() : null,
+                    scores[i]));
+        }
+        return page;
+    }
+
+    // ----- Index maintenance (write lock held) -----
+
+    private void replace(Collection<Long> studentIds, List<MarkScore> scores) {
+        boolean bulk = studentIds.size() > BULK_THRESHOLD;
+        for (Long studentId : studentIds) {
+            int[] old = marksByStudent.remove(studentId);
+            if (old != null && !bulk) {
+                unindex(studentId, old);
+            }
+        }
+        for (MarkScore score : scores) {
+            record(score);
+        }
+        if (bulk) {
+            reloadIndexes();
+        } else {
+            for (Long studentId : studentIds) {
+                int[] marks = marksByStudent.get(studentId);
+                if (marks != null) {
+                    index(studentId, marks);
+                }
+            }
+        }
+    }
+
+    private void record(MarkScore score) {
+        if (score.getMarks() == null) {
+            return;
+        }
+        int slot = slotFor(score.getSubjectId());
+        int[] marks = marksByStudent.get(score.getStudentId());
+        if (marks == null || marks.length <= slot) {
+            int[] grown = new int[subjectsBySlot.size()];
+            Arrays.fill(grown, ABSENT);
+            if (marks != null) {
+                System.arraycopy(marks, 0, grown, 0, marks.length);
+            }
+            marks = grown;
+            marksByStudent.put(score.getStudentId(), marks);
+        }
+        marks[slot] = score.getMarks();
+    }
+
+    private void index(long studentId, int[] marks) {
+        for (int slot = 0; slot < marks.length; slot++) {
+            if (marks[slot] != ABSENT) {
+                subjectIndexes.get(slot).insert(studentId, marks[slot]);
+            }
+        }
+        overall.insert(studentId, total(marks));
+    }
+
+    private void unindex(long studentId, int[] marks) {
+        for (int slot = 0; slot < marks.length; slot++) {
+            if (marks[slot] != ABSENT) {
+                subjectIndexes.get(slot).remove(studentId, marks[slot]);
+            }
+        }
+        overall.remove(studentId, total(marks));
+    }
+
+    private void reloadIndexes() {
+        long[] sortedIds = marksByStudent.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int[] totals = new int[sortedIds.length];
+        for (int i = 0; i < sortedIds.length; i++) {
+            totals[i] = total(marksByStudent.get(sortedIds[i]));
+        }
+        overall.load(sortedIds, totals, sortedIds.length);
+
+        long[] ids = new long[sortedIds.length];
+        int[] scores = new int[sortedIds.length];
+        for (int slot = 0; slot < subjectIndexes.size(); slot++) {
+            int count = 0;
+            for (long studentId : sortedIds) {
+                int[] marks = marksByStudent.get(studentId);
+                if (slot < marks.length && marks[slot] != ABSENT) {
+                    ids[count] = studentId;
+                    scores[count] = marks[slot];
+                    count++;
+                }
+            }
+            subjectIndexes.get(slot).load(ids, scores, count);
+        }
+    }
+
+    private int slotFor(Long subjectId) {
+        Integer slot = slotsBySubject.get(subjectId);
+        if (slot == null) {
+            slot = subjectsBySlot.size();
+            slotsBySubject.put(subjectId, slot);
+            subjectsBySlot.add(subjectId);
+            subjectIndexes.add(new ScoreIndex());
+        }
+        return slot;
+    }
+
+    private ScoreIndex subjectIndex(Long subjectId) {
+        Integer slot = slotsBySubject.get(subjectId);
+        return slot != null ? subjectIndexes.get(slot) : null;
+    }
+
+    private static Rank rankIn(ScoreIndex index, int score) {
+        return new Rank(index.rank(score), index.size(), index.percentile(score));
+    }
+
+    private static int total(int[] marks) {
+        int total = 0;
+        for (int mark : marks) {
+            if (mark != ABSENT) {
+                total += mark;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.dto.SubjectMarkDTO;
+import com.example.studentdb.repository.MarkRepository;
+import com.example.studentdb.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+/**
+ * Exports every student's result card as one ZIP, streamed to the caller.
+ * Students are read in keyset pages on the calling thread; rendering is spread over
+ * {@code pdfRenderExecutor}.
+ */
+@Service
+public class ResultCardExportService {
+
+    static final int PAGE_SIZE = 200;
+
+    private final StudentRepository studentRepository;
+    private final MarkRepository markRepository;
+    private final ResultCardPdfRenderer renderer;
+    private final RankingService rankingService;
+    private final ThreadPoolTaskExecutor pdfRenderExecutor;
+
+    public ResultCardExportService(StudentRepository studentRepository,
+                                   MarkRepository markRepository,
+                                   ResultCardPdfRenderer renderer,
+                                   RankingService rankingService,
+                                   @Qualifier("pdfRenderExecutor") ThreadPoolTaskExecutor pdfRenderExecutor) {
+        this.studentRepository = studentRepository;
+        this.markRepository = markRepository;
+        this.renderer = renderer;
+        this.rankingService = rankingService;
+        this.pdfRenderExecutor = pdfRenderExecutor;
+    }
+
+    public int exportAll(OutputStream out) throws IOException {
+        // Two cards per render thread keeps every core busy while the ZIP is written
+        int window = 2 * pdfRenderExecutor.getMaxPoolSize();
+        return new ResultCardZipWriter(pdfRenderExecutor, window)
+                .write(new CohortIterator(), renderer::render, out);
+    }
+
+    // Walks all students by id, one page of summaries plus one marks query at a time
+    private class CohortIterator implements Iterator<ResultSummary> {
+        private Iterator<ResultSummary> page = Collections.emptyIterator();
+        private long lastId = 0;
+        private boolean exhausted;
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !exhausted) {
+                List<ResultSummary> next = studentRepository.findResultSummariesAfter(lastId, PageRequest.of(0, PAGE_SIZE));
+                if (next.size() < PAGE_SIZE) {
+                    exhausted = true;
+                }
+                if (!next.isEmpty()) {
+                    Map<Long, List<SubjectMarkDTO>> marks = markRepository
+                            .findSubjectMarks(next.stream().map(ResultSummary::getStudentId).toList())
+                            .stream()
+                            .collect(Collectors.groupingBy(SubjectMarkDTO::getStudentId));
+                    for (ResultSummary summary : next) {
+                        summary.setMarks(marks.getOrDefault(summary.getStudentId(), List.of()));
+                        summary.setRanking(rankingService.rankingFor(summary.getStudentId()));
+                    }
+                    lastId = next.get(next.size() - 1).getStudentId();
+                }
+                page = next.iterator();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public ResultSummary next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.Rank;
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.dto.StudentRanking;
+import com.example.studentdb.dto.SubjectMarkDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;   // ✅ Required for colors
+import com.lowagie.text.PageSize;   // ✅ Required for page size
+import com.lowagie.text.Document;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Renders the official result card. Works only from the {@link ResultSummary} (with its
+ * subject-wise marks filled in), so callers decide how the data is loaded and cached.
+ */
+@Component
+public class ResultCardPdfRenderer {
+
+    private final Timer renderTimer;
+    private final DistributionSummary pdfSize;
+
+    @Autowired
+    public ResultCardPdfRenderer(MeterRegistry meterRegistry) {
+        this.renderTimer = Timer.builder("srms.pdf.render")
+                .description("Time to render one result card")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.pdfSize = DistributionSummary.builder("srms.pdf.size")
+                .description("Size of one rendered result card")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // Outside Spring (tests, benchmarks): the global registry, a no-op unless one is added to it
+    public ResultCardPdfRenderer() {
+        this(Metrics.globalRegistry);
+    }
+
+    public byte[] render(ResultSummary result) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 * 1024);
+        renderTimer.record(() -> render(result, out));
+        pdfSize.record(out.size());
+        return out.toByteArray();
+    }
+
+    public void render(ResultSummary result, OutputStream out) {
+        long totalMarks = result.getTotalMarks();
+        double percentage = result.getPercentage();
+        String resultStatus = result.getResultStatus();
+        StudentRanking ranking = result.getRanking();
+
+        Document document = new Document(PageSize.A4);
+        PdfWriter.getInstance(document, out);
+        document.open();
+
+        // Header
+        Font headerFont = new Font(Font.HELVETICA, 18, Font.BOLD, Color.BLUE);
+        Paragraph instituteName = new Paragraph("Techno India University, West Bengal", headerFont);
+        instituteName.setAlignment(Element.ALIGN_CENTER);
+        document.add(instituteName);
+
+        Paragraph address = new Paragraph("EM-4, Sector-V, Salt Lake, Kolkata - 700091, West Bengal, India | info@techno.edu.in",
+                new Font(Font.HELVETICA, 10, Font.NORMAL, Color.DARK_GRAY));
+        address.setAlignment(Element.ALIGN_CENTER);
+        document.add(address);
+
+        document.add(new Paragraph(" "));
+        Paragraph reportTitle = new Paragraph("OFFICIAL RESULT CARD",
+                new Font(Font.HELVETICA, 14, Font.BOLD));
+        reportTitle.setAlignment(Element.ALIGN_CENTER);
+        document.add(reportTitle);
+
+        document.add(new Paragraph("Generated on: " + java.time.LocalDate.now(),
+                new Font(Font.HELVETICA, 9, Font.ITALIC, Color.GRAY)));
+        document.add(new Paragraph(" "));
+
+        // Student Info
+        PdfPTable studentTable = new PdfPTable(2);
+        studentTable.setWidthPercentage(100);
+        studentTable.setSpacingBefore(10);
+
+        studentTable.addCell(makeCell("Name:", true));
+        studentTable.addCell(makeCell(result.getName(), false));
+
+        studentTable.addCell(makeCell("Email:", true));
+        studentTable.addCell(makeCell(result.getEmail(), false));
+
+        studentTable.addCell(makeCell("Roll Number:", true));
+        studentTable.addCell(makeCell(result.getRollNumber(), false));
+
+        document.add(studentTable);
+        document.add(new Paragraph(" "));
+
+        // Subjects
+        PdfPTable table = new PdfPTable(3);
+        table.setWidthPercentage(100);
+
+        PdfPCell header1 = new PdfPCell(new Phrase("Subject",
+                new Font(Font.HELVETICA, 11, Font.BOLD, Color.WHITE)));
+        header1.setBackgroundColor(new Color(52, 152, 219));
+        header1.setHorizontalAlignment(Element.ALIGN_CENTER);
+        header1.setPadding(6);
+
+        PdfPCell header2 = new PdfPCell(new Phrase("Marks",
+                new Font(Font.HELVETICA, 11, Font.BOLD, Color.WHITE)));
+        header2.setBackgroundColor(new Color(52, 152, 219));
+        header2.setHorizontalAlignment(Element.ALIGN_CENTER);
+        header2.setPadding(6);
+
+        PdfPCell header3 = new PdfPCell(new Phrase("Rank",
+                new Font(Font.HELVETICA, 11, Font.BOLD, Color.WHITE)));
+        header3.setBackgroundColor(new Color(52, 152, 219));
+        header3.setHorizontalAlignment(Element.ALIGN_CENTER);
+        header3.setPadding(6);
+
+        table.addCell(header1);
+        table.addCell(header2);
+        table.addCell(header3);
+
+        for (SubjectMarkDTO m : result.getMarks()) {
+            table.addCell(makeCell(m.getSubjectName(), false));
+            table.addCell(makeCell(String.valueOf(m.getMarks()), false));
+            table.addCell(makeCell(formatRank(ranking != null ? ranking.getSubjectRank(m.getSubjectId()) : null), false));
+        }
+
+        document.add(table);
+        document.add(new Paragraph(" "));
+
+        // Summary
+        PdfPTable summaryTable = new PdfPTable(2);
+        summaryTable.setWidthPercentage(60);
+        summaryTable.setSpacingBefore(15);
+        summaryTable.setHorizontalAlignment(Element.ALIGN_LEFT);
+
+        summaryTable.addCell(makeCell("Total Marks", true));
+        summaryTable.addCell(makeCell(String.valueOf(totalMarks), false));
+
+        summaryTable.addCell(makeCell("Percentage", true));
+        summaryTable.addCell(makeCell(String.format("%.2f %%", percentage), false));
+
+        summaryTable.addCell(makeCell("Class Rank", true));
+        summaryTable.addCell(makeCell(formatRank(ranking != null ? ranking.getOverall() : null), false));
+
+        summaryTable.addCell(makeCell("Percentile", true));
+        summaryTable.addCell(makeCell(ranking != null
+                ? String.format("%.1f", ranking.getOverall().getPercentile()) : "-", false));
+
+        PdfPCell resultCell = new PdfPCell(new Phrase("Final Result: " + resultStatus,
+                new Font(Font.HELVETICA, 12, Font.BOLD,
+                        resultStatus.equals("Pass") ? Color.GREEN : Color.RED)));
+        resultCell.setColspan(2);
+        resultCell.setHorizontalAlignment(Element.ALIGN_CENTER);
+        summaryTable.addCell(resultCell);
+
+        document.add(summaryTable);
+
+        // Signature
+        document.add(new Paragraph("\n\n\n"));
+        Paragraph signature = new Paragraph("Pratyush Gupta \nPrincipal Signature",
+                new Font(Font.HELVETICA, 11, Font.NORMAL));
+        signature.setAlignment(Element.ALIGN_RIGHT);
+        document.add(signature);
+
+        document.close();
+    }
+
+    // Helpers
+    private static String formatRank(Rank rank) {
+        return rank != null ? rank.getRank() + " / " + rank.getOutOf() : "-";
+    }
+
+    private PdfPCell makeCell(String text, boolean bold) {
+        Font font = bold
+                ? new Font(Font.HELVETICA, 11, Font.BOLD, Color.BLACK)
+                : new Font(Font.HELVETICA, 11, Font.NORMAL, Color.BLACK);
+        PdfPCell cell = new PdfPCell(new Phrase(text, font));
+        cell.setPadding(5);
+        return cell;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.ResultCardPdf;
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.repository.MarkRepository;
+import com.example.studentdb.repository.StudentRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Serves result-card PDFs, rendering only on a cache miss.
+ */
+@Service
+public class ResultCardService {
+
+    private final StudentRepository studentRepository;
+    private final MarkRepository markRepository;
+    private final ResultCardPdfRenderer renderer;
+    private final ResultPdfCache cache;
+    private final StudentDataVersions versions;
+    private final RankingService rankingService;
+
+    public ResultCardService(StudentRepository studentRepository,
+                             MarkRepository markRepository,
+                             ResultCardPdfRenderer renderer,
+                             ResultPdfCache cache,
+                             StudentDataVersions versions,
+                             RankingService rankingService) {
+        this.studentRepository = studentRepository;
+        this.markRepository = markRepository;
+        this.renderer = renderer;
+        this.cache = cache;
+        this.versions = versions;
+        this.rankingService = rankingService;
+    }
+
+    // From the cache's username mapping when the card was rendered before, so usually without SQL
+    public Long studentIdFor(String email) {
+        Long studentId = cache.studentIdFor(email);
+        if (studentId == null) {
+            studentId = studentRepository.findIdByEmail(email);
+            if (studentId == null) {
+                throw new RuntimeException("Student not found");
+            }
+        }
+        return studentId;
+    }
+
+    // studentId as returned by studentIdFor(email)
+    public ResultCardPdf getResultCard(Long studentId, String email) {
+        ResultCardPdf cached = cache.get(studentId, versions.current(studentId), rankingService.epoch());
+        if (cached != null) {
+            return cached;
+        }
+
+        // Version first, then the data: a concurrent change can only make this entry stale, never wrong
+        long version = versions.current(studentId);
+        long rankingEpoch = rankingService.epoch();
+        ResultCardPdf pdf = render(studentId);
+        cache.put(email, version, rankingEpoch, pdf);
+        return pdf;
+    }
+
+    public ResultCardPdf render(Long studentId) {
+        ResultSummary result = studentRepository.findResultSummary(studentId);
+        if (result == null) {
+            throw new RuntimeException("Student not found");
+        }
+        result.setMarks(markRepository.findSubjectMarks(List.of(studentId)));
+        result.setRanking(rankingService.rankingFor(studentId));
+        return new ResultCardPdf(studentId, "Result_" + result.getName() + ".pdf", renderer.render(result));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.ResultSummary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Renders result cards in parallel and streams them into a ZIP in input order.
+ * <p>
+ * At most {@code window} cards are rendered or waiting to be written at any time, so memory
+ * use depends on the window and the card size, never on the number of students.
+ */
+public class ResultCardZipWriter {
+
+    private final Executor executor;
+    private final int window;
+    private int peakInFlight;
+
+    public ResultCardZipWriter(Executor executor, int window) {
+        this.executor = executor;
+        this.window = window;
+    }
+
+    // Returns the number of cards written
+    public int write(Iterator<ResultSummary> results,
+                     Function<ResultSummary, byte[]> renderer,
+                     OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.setLevel(Deflater.BEST_SPEED); // PDF streams are already compressed
+        Deque<PendingCard> inFlight = new ArrayDeque<>(window);
+        int written = 0;
+
+        while (results.hasNext()) {
+            ResultSummary result = results.next();
+            inFlight.add(new PendingCard(entryName(result),
+                    CompletableFuture.supplyAsync(() -> renderer.apply(result), executor)));
+            peakInFlight = Math.max(peakInFlight, inFlight.size());
+            if (inFlight.size() >= window) {
+                writeEntry(zip, inFlight.poll());
+                written++;
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            writeEntry(zip, inFlight.poll());
+            written++;
+        }
+        zip.finish();
+        zip.flush();
+        return written;
+    }
+
+    public int getPeakInFlight() {
+        return peakInFlight;
+    }
+
+    private static void writeEntry(ZipOutputStream zip, PendingCard card) throws IOException {
+        byte[] pdf;
+        try {
+            pdf = card.pdf.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Rendering " + card.name + " failed", e.getCause());
+        }
+        zip.putNextEntry(new ZipEntry(card.name));
+        zip.write(pdf);
+        zip.closeEntry();
+    }
+
+    // Roll numbers are unique; the id keeps names unique when one is missing
+    static String entryName(ResultSummary result) {
+        String key = result.getRollNumber() != null && !result.getRollNumber().isBlank()
+                ? result.getRollNumber()
+                : "id-" + result.getStudentId();
+        return "Result_" + key.replaceAll("[^A-Za-z0-9._-]", "_") + ".pdf";
+    }
+
+    private record PendingCard(String name, CompletableFuture<byte[]> pdf) {
+    }
+}
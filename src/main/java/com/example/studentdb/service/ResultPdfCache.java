@@ -0,0 +1,108 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.CacheStats;
+import com.example.studentdb.dto.ResultCardPdf;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LRU cache of rendered result-card PDFs, bounded by total bytes.
+ * <p>
+ * Entries are keyed by student id and carry the {@link StudentDataVersions} version, the
+ * {@link RankingService} epoch (the card prints ranks, which move when anyone's marks change)
+ * and the day they were rendered (the card prints "Generated on"); any difference is a miss. Each entry also maps the owner's username to the student id, which lets hits
+ * skip the database entirely.
+ */
+@Component
+public class ResultPdfCache {
+
+    private final long maxBytes;
+
+    // Access-ordered: iteration starts at the least recently used entry. Guarded by "this".
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Long> studentIdsByUsername = new HashMap<>();
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResultPdfCache(@Value("${srms.pdf-cache.max-size:64MB}") DataSize maxSize) {
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    public synchronized Long studentIdFor(String username) {
+        return studentIdsByUsername.get(username);
+    }
+
+    public ResultCardPdf get(Long studentId, long version, long rankingEpoch) {
+        synchronized (this) {
+            Entry entry = entries.get(studentId);
+            if (entry != null && entry.version == version && entry.rankingEpoch == rankingEpoch
+                    && entry.renderedOn.equals(LocalDate.now())) {
+                hits.increment();
+                return entry.pdf;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public synchronized void put(String username, long version, long rankingEpoch, ResultCardPdf pdf) {
+        int size = pdf.getContent().length;
+        if (size > maxBytes) {
+            return;
+        }
+        remove(pdf.getStudentId());
+        entries.put(pdf.getStudentId(), new Entry(username, version, rankingEpoch, LocalDate.now(), pdf));
+        studentIdsByUsername.put(username, pdf.getStudentId());
+        totalBytes += size;
+
+        Iterator<Entry> lru = entries.values().iterator();
+        while (totalBytes > maxBytes && lru.hasNext()) {
+            Entry eldest = lru.next();
+            lru.remove();
+            forget(eldest);
+            evictions.increment();
+        }
+    }
+
+    // Versions already make stale entries unreachable; this frees their memory early and
+    // drops the username mapping in case the email (= username) changed. Runs after commit when
+    // published inside a transaction, so a concurrent reader cannot re-cache the old data.
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onStudentDataChanged(StudentDataChangedEvent event) {
+        for (Long studentId : event.getStudentIds()) {
+            remove(studentId);
+        }
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), totalBytes);
+    }
+
+    private void remove(Long studentId) {
+        Entry removed = entries.remove(studentId);
+        if (removed != null) {
+            forget(removed);
+        }
+    }
+
+    private void forget(Entry entry) {
+        totalBytes -= entry.pdf.getContent().length;
+        studentIdsByUsername.remove(entry.username, entry.pdf.getStudentId());
+    }
+
+    private record Entry(String username, long version, long rankingEpoch, LocalDate renderedOn, ResultCardPdf pdf) {
+    }
+}
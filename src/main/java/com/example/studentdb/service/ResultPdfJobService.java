@@ -0,0 +1,134 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.PdfJobStatus;
+import com.example.studentdb.dto.ResultCardPdf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Renders result cards on the bounded {@code pdfJobExecutor} instead of the request thread.
+ * <p>
+ * A request gets a job id back at once and polls for it; when the queue is full the submit is
+ * rejected, so a spike turns into quick "try again" answers rather than blocked Tomcat workers.
+ * Repeated requests from one student while their card is still queued or rendering share that
+ * job, as long as the student's data and the ranks have not changed since it was queued.
+ * Jobs are only visible to the user who submitted them.
+ */
+@Service
+public class ResultPdfJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultPdfJobService.class);
+
+    private static final int MAX_TRACKED_JOBS = 1_000;
+
+    private final ResultCardService resultCardService;
+    private final StudentDataVersions versions;
+    private final RankingService rankingService;
+    private final ThreadPoolTaskExecutor pdfJobExecutor;
+
+    // Most recent jobs by id, oldest finished evicted first; unfinished jobs by student. Guarded by "this".
+    private final LinkedHashMap<String, Job> jobs = new LinkedHashMap<>();
+    private final Map<Long, Job> inFlight = new HashMap<>();
+
+    public ResultPdfJobService(ResultCardService resultCardService,
+                               StudentDataVersions versions,
+                               RankingService rankingService,
+                               @Qualifier("pdfJobExecutor") ThreadPoolTaskExecutor pdfJobExecutor) {
+        this.resultCardService = resultCardService;
+        this.versions = versions;
+        this.rankingService = rankingService;
+        this.pdfJobExecutor = pdfJobExecutor;
+    }
+
+    // Throws TaskRejectedException when the queue is full
+    public PdfJobStatus submit(String email) {
+        Long studentId = resultCardService.studentIdFor(email);
+        long version = versions.current(studentId);
+        long rankingEpoch = rankingService.epoch();
+        Job job;
+        synchronized (this) {
+            Job running = inFlight.get(studentId);
+            if (running != null && running.version == version && running.rankingEpoch == rankingEpoch) {
+                return running.status;
+            }
+            job = new Job(email, studentId, version, rankingEpoch);
+            jobs.put(job.status.getId(), job);
+            inFlight.put(studentId, job);
+            evictFinished();
+        }
+        try {
+            pdfJobExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            synchronized (this) {
+                jobs.remove(job.status.getId());
+                inFlight.remove(studentId, job);
+            }
+            throw e;
+        }
+        return job.status;
+    }
+
+    public synchronized Optional<PdfJobStatus> findJob(String jobId, String email) {
+        return owned(jobId, email).map(job -> job.status);
+    }
+
+    // Empty until the job has completed
+    public synchronized Optional<ResultCardPdf> findPdf(String jobId, String email) {
+        return owned(jobId, email).map(job -> job.pdf);
+    }
+
+    private void run(Job job) {
+        job.status.start();
+        try {
+            job.pdf = resultCardService.getResultCard(job.studentId, job.email);
+            job.status.complete();
+        } catch (RuntimeException e) {
+            log.warn("Result card job {} failed", job.status.getId(), e);
+            job.status.fail(e.getMessage());
+        } finally {
+            synchronized (this) {
+                inFlight.remove(job.studentId, job);
+            }
+        }
+    }
+
+    private Optional<Job> owned(String jobId, String email) {
+        Job job = jobs.get(jobId);
+        return job != null && job.email.equals(email) ? Optional.of(job) : Optional.empty();
+    }
+
+    private void evictFinished() {
+        Iterator<Job> oldest = jobs.values().iterator();
+        while (jobs.size() > MAX_TRACKED_JOBS && oldest.hasNext()) {
+            if (oldest.next().status.isFinished()) {
+                oldest.remove();
+            }
+        }
+    }
+
+    private static final class Job {
+        private final PdfJobStatus status = new PdfJobStatus();
+        private final String email;
+        private final Long studentId;
+        private final long version;
+        private final long rankingEpoch;
+        private volatile ResultCardPdf pdf;
+
+        Job(String email, Long studentId, long version, long rankingEpoch) {
+            this.email = email;
+            this.studentId = studentId;
+            this.version = version;
+            this.rankingEpoch = rankingEpoch;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.studentdb.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds {@code student_result_summary} at startup when the application is launched with
+ * {@code --rebuild-result-summary}, e.g. after marks were changed directly in the database.
+ */
+@Component
+public class ResultSummaryRebuildRunner implements ApplicationRunner {
+
+    static final String OPTION = "rebuild-result-summary";
+
+    private static final Logger log = LoggerFactory.getLogger(ResultSummaryRebuildRunner.class);
+
+    private final ResultSummaryService resultSummaryService;
+
+    public ResultSummaryRebuildRunner(ResultSummaryService resultSummaryService) {
+        this.resultSummaryService = resultSummaryService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            int rows = resultSummaryService.rebuildAll();
+            log.info("Rebuilt student_result_summary: {} rows", rows);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.repository.StudentResultSummaryRepository;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Collection;
+
+/**
+ * Keeps {@code student_result_summary} in step with {@code marks}. Callers invoke
+ * {@link #refresh(Collection)} inside the transaction that changed the marks, so the
+ * summary and the marks always commit (or roll back) together.
+ * <p>
+ * Rows are upserted on {@code student_id}, so two transactions refreshing the same student never
+ * collide on the primary key: {@code ON CONFLICT DO UPDATE} on PostgreSQL, {@code MERGE} on H2.
+ */
+@Service
+public class ResultSummaryService {
+
+    private final StudentResultSummaryRepository summaryRepository;
+    private final boolean postgres;
+
+    public ResultSummaryService(StudentResultSummaryRepository summaryRepository,
+                                DataSource dataSource) throws MetaDataAccessException {
+        this.summaryRepository = summaryRepository;
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.postgres = "PostgreSQL".equals(product);
+    }
+
+    // Recomputes the given students' rows from their marks (an indexed lookup per student)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return;
+        }
+        summaryRepository.flush();
+        summaryRepository.lockStudents(studentIds);
+        if (postgres) {
+            summaryRepository.upsertForStudents(studentIds, ResultSummary.PASS_MARK);
+        } else {
+            summaryRepository.mergeForStudents(studentIds, ResultSummary.PASS_MARK);
+        }
+    }
+
+    // Backfill / repair: rebuilds every row in one transaction, returns the number of rows
+    @Transactional
+    public int rebuildAll() {
+        summaryRepository.flush();
+        summaryRepository.deleteAllRows();
+        return summaryRepository.insertAllRows(ResultSummary.PASS_MARK);
+    }
+}
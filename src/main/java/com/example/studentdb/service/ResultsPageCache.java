@@ -0,0 +1,92 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.CacheStats;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LRU cache of the rendered admin results page, bounded by total bytes.
+ * <p>
+ * Entries are keyed by page, size and keyword and carry the {@link StudentDataVersions} global
+ * version and the {@link StudentSearchIndex} generation they were rendered from; any difference
+ * is a miss. A hit skips both the queries and the template. The page holds nothing specific to
+ * the admin viewing it, so one entry serves every admin.
+ */
+@Component
+public class ResultsPageCache {
+
+    private final long maxBytes;
+
+    // Access-ordered: iteration starts at the least recently used entry. Guarded by "this".
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResultsPageCache(@Value("${srms.results-page-cache.max-size:16MB}") DataSize maxSize) {
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    public byte[] get(int page, int size, String keyword, long version, long searchGeneration) {
+        synchronized (this) {
+            Entry entry = entries.get(new Key(page, size, keyword));
+            if (entry != null && entry.version == version && entry.searchGeneration == searchGeneration) {
+                hits.increment();
+                return entry.html;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public synchronized void put(int page, int size, String keyword, long version, long searchGeneration,
+                                 byte[] html) {
+        if (html.length > maxBytes) {
+            return;
+        }
+        Key key = new Key(page, size, keyword);
+        remove(key);
+        entries.put(key, new Entry(version, searchGeneration, html));
+        totalBytes += html.length;
+
+        Iterator<Entry> lru = entries.values().iterator();
+        while (totalBytes > maxBytes && lru.hasNext()) {
+            totalBytes -= lru.next().html.length;
+            lru.remove();
+            evictions.increment();
+        }
+    }
+
+    // Versions already make every entry unreachable after a change; this frees them early
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onStudentDataChanged(StudentDataChangedEvent event) {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), totalBytes);
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.html.length;
+        }
+    }
+
+    private record Key(int page, int size, String keyword) {
+    }
+
+    private record Entry(long version, long searchGeneration, byte[] html) {
+    }
+}
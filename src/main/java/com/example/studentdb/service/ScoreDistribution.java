@@ -0,0 +1,87 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.dto.ScoreBucket;
+import com.example.studentdb.dto.SubjectStatistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One subject's marks as (mark, frequency) pairs, fed in ascending mark order. Count, mean,
+ * standard deviation, pass rate and the histogram are accumulated in primitives as the pairs
+ * arrive; the median is read off the kept frequencies, so nothing is sorted or re-read.
+ */
+final class ScoreDistribution {
+
+    static final int BUCKET_WIDTH = 10;
+    static final int BUCKETS = 10; // 0-9 ... 90-100, so the last bucket also holds 100
+
+    private int[] marks = new int[16];
+    private long[] frequencies = new long[16];
+    private int distinct;
+
+    private long count;
+    private long passed;
+    private double sum;
+    private double sumOfSquares;
+    private final long[] buckets = new long[BUCKETS];
+
+    void add(int mark, long frequency) {
+        if (distinct == marks.length) {
+            marks = Arrays.copyOf(marks, distinct * 2);
+            frequencies = Arrays.copyOf(frequencies, distinct * 2);
+        }
+        marks[distinct] = mark;
+        frequencies[distinct] = frequency;
+        distinct++;
+
+        count += frequency;
+        sum += (double) mark * frequency;
+        sumOfSquares += (double) mark * mark * frequency;
+        if (mark >= ResultSummary.PASS_MARK) {
+            passed += frequency;
+        }
+        int bucket = Math.min(Math.max(mark, 0) / BUCKET_WIDTH, BUCKETS - 1);
+        buckets[bucket] += frequency;
+    }
+
+    SubjectStatistics toStatistics(Long subjectId, String subjectName) {
+        double mean = count > 0 ? sum / count : 0;
+        // Population standard deviation; clamp tiny negative rounding errors
+        double variance = count > 0 ? Math.max(0, sumOfSquares / count - mean * mean) : 0;
+        double passRate = count > 0 ? passed * 100.0 / count : 0;
+
+        List<ScoreBucket> histogram = new ArrayList<>(BUCKETS);
+        for (int i = 0; i < BUCKETS; i++) {
+            int from = i * BUCKET_WIDTH;
+            int to = i == BUCKETS - 1 ? 100 : from + BUCKET_WIDTH - 1;
+            histogram.add(new ScoreBucket(from, to, buckets[i]));
+        }
+        return new SubjectStatistics(subjectId, subjectName, count, mean, median(), Math.sqrt(variance),
+                passRate, histogram);
+    }
+
+    // Average of the two middle marks (the same mark when the count is odd)
+    private double median() {
+        if (count == 0) {
+            return 0;
+        }
+        long lower = (count - 1) / 2;
+        long upper = count / 2;
+        long seen = 0;
+        int lowerMark = 0;
+        for (int i = 0; i < distinct; i++) {
+            long next = seen + frequencies[i];
+            if (lower >= seen && lower < next) {
+                lowerMark = marks[i];
+            }
+            if (upper >= seen && upper < next) {
+                return (lowerMark + marks[i]) / 2.0;
+            }
+            seen = next;
+        }
+        return lowerMark;
+    }
+}
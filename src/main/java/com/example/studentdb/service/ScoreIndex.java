@@ -0,0 +1,101 @@
+package com.example.studentdb.service;
+
+import java.util.Arrays;
+
+/**
+ * Scores of one cohort, sorted best first (ties by student id) in two parallel primitive arrays.
+ * <p>
+ * Rank lookups are a binary search, O(log n); a top-K page is a slice. A single insert or
+ * remove shifts the tail with one {@code System.arraycopy}; large batches go through
+ * {@link #load} instead, which sorts once. Not thread-safe: {@link RankingService} guards it.
+ */
+final class ScoreIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] scores = new int[INITIAL_CAPACITY];
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int scoreAt(int index) {
+        return scores[index];
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    // 1 + number of strictly higher scores
+    int rank(int score) {
+        return lowerBound(score, Long.MIN_VALUE) + 1;
+    }
+
+    // Share of the cohort scoring the same or lower, 0-100
+    double percentile(int score) {
+        return size == 0 ? 0 : 100.0 * (size - lowerBound(score, Long.MIN_VALUE)) / size;
+    }
+
+    void insert(long id, int score) {
+        if (size == scores.length) {
+            int capacity = scores.length + (scores.length >> 1);
+            scores = Arrays.copyOf(scores, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        int at = lowerBound(score, id);
+        System.arraycopy(scores, at, scores, at + 1, size - at);
+        System.arraycopy(ids, at, ids, at + 1, size - at);
+        scores[at] = score;
+        ids[at] = id;
+        size++;
+    }
+
+    // The caller passes the score the id was inserted with
+    void remove(long id, int score) {
+        int at = lowerBound(score, id);
+        if (at == size || ids[at] != id || scores[at] != score) {
+            return;
+        }
+        System.arraycopy(scores, at + 1, scores, at, size - at - 1);
+        System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+        size--;
+    }
+
+    // Replaces the whole index; ids must be ascending (the tie order) and distinct
+    void load(long[] sortedIds, int[] idScores, int count) {
+        // Sort (score desc, position) packed into one long, so the sort stays on primitives
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) -idScores[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int capacity = Math.max(INITIAL_CAPACITY, count + (count >> 3));
+        scores = new int[capacity];
+        ids = new long[capacity];
+        for (int i = 0; i < count; i++) {
+            int position = (int) keys[i];
+            scores[i] = idScores[position];
+            ids[i] = sortedIds[position];
+        }
+        size = count;
+    }
+
+    // First index whose (score, id) is not ahead of the given one
+    private int lowerBound(int score, long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (scores[mid] > score || (scores[mid] == score && ids[mid] < id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.event.StudentDataChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory data version per student, bumped whenever the student's profile or marks change.
+ * Caches store the version they were built from and treat any other version as a miss; HTTP
+ * responses use it in their ETag.
+ * <p>
+ * A version only identifies data together with its student id: every student unchanged since
+ * start-up has the same initial version. Caches are keyed by student and ETags carry the id.
+ * <p>
+ * Readers must take {@link #current(Long)} <em>before</em> loading the data they cache, so an
+ * entry built from pre-change data always carries a pre-change version.
+ */
+@Component
+public class StudentDataVersions {
+
+    private final long startedAt = System.currentTimeMillis();
+    // Seeded from the clock, so a version (and an ETag built from it) is never reused after a restart
+    private final long initialVersion = startedAt * 1000;
+    private final AtomicLong sequence = new AtomicLong(initialVersion);
+    private final ConcurrentHashMap<Long, Long> current = new ConcurrentHashMap<>();
+    private volatile long lastModified = startedAt;
+
+    public long current(Long studentId) {
+        return current.getOrDefault(studentId, initialVersion);
+    }
+
+    // Bumped by any student's change, for caches built from many students at once
+    public long global() {
+        return sequence.get();
+    }
+
+    // Epoch millis of any student's last change, for pages built from all students
+    public long lastModified() {
+        return lastModified;
+    }
+
+    // After commit when published inside a transaction, so a reader never re-caches the old data
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onStudentDataChanged(StudentDataChangedEvent event) {
+        for (Long studentId : event.getStudentIds()) {
+            current.put(studentId, sequence.incrementAndGet());
+        }
+        lastModified = System.currentTimeMillis();
+    }
+}
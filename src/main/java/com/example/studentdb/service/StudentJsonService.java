@@ -0,0 +1,66 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.StudentDTO;
+import com.example.studentdb.repository.StudentRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes students as a JSON array with Jackson's streaming generator. Rows are lean DTOs
+ * (never entities, so the persistence context stays empty) and each one is written as soon as
+ * it is read, so memory use does not grow with the number of students.
+ */
+@Service
+public class StudentJsonService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final StudentRepository studentRepository;
+    private final ObjectMapper objectMapper;
+
+    public StudentJsonService(StudentRepository studentRepository, ObjectMapper objectMapper) {
+        this.studentRepository = studentRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // Whole table; the transaction keeps the database cursor open while rows are fetched in batches
+    @Transactional(readOnly = true)
+    public void writeAll(OutputStream out) throws IOException {
+        try (Stream<StudentDTO> students = studentRepository.streamAllStudents()) {
+            write(students.iterator(), out);
+        }
+    }
+
+    // One keyset page (id > afterId); returns the id to continue after, or null on the last page
+    public Long writePage(long afterId, int limit, OutputStream out) throws IOException {
+        List<StudentDTO> page = studentRepository.findStudentsAfter(afterId, PageRequest.of(0, limit));
+        write(page.iterator(), out);
+        return page.size() == limit ? page.get(page.size() - 1).getId() : null;
+    }
+
+    private void write(Iterator<StudentDTO> students, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // the container owns the response stream
+            json.writeStartArray();
+            while (students.hasNext()) {
+                StudentDTO student = students.next();
+                json.writeStartObject();
+                json.writeNumberField("id", student.getId());
+                json.writeStringField("name", student.getName());
+                json.writeStringField("email", student.getEmail());
+                json.writeStringField("rollNumber", student.getRollNumber());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.BulkJobStatus;
+import com.example.studentdb.dto.StudentOnboardingRow;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Creates students together with their login {@link User}.
+ * <p>
+ * BCrypt hashing (~100 ms of CPU each) runs on {@code passwordHashingExecutor}, which is sized
+ * to the available cores, so request threads never hash. Bulk jobs hash a whole chunk in
+ * parallel and then insert its users and students in one transaction.
+ * <p>
+ * The hashing queue is bounded: a single save is refused while it is full, and a bulk job hashes
+ * the rows that do not fit on its own worker thread.
+ */
+@Service
+public class StudentOnboardingService {
+
+    public static final String DEFAULT_PASSWORD = "student123";
+
+    static final int CHUNK_SIZE = 500;
+    private static final int MAX_TRACKED_JOBS = 50;
+
+    private final StudentRepository studentRepository;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor passwordHashingExecutor;
+    private final ThreadPoolTaskExecutor bulkJobExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCache userCache;
+
+    // Most recent jobs by id, oldest evicted first
+    private final Map<String, BulkJobStatus> jobs = new LinkedHashMap<>();
+
+    public StudentOnboardingService(StudentRepository studentRepository,
+                                    UserRepository userRepository,
+                                    PasswordEncoder passwordEncoder,
+                                    TransactionTemplate transactionTemplate,
+                                    @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+                                    @Qualifier("bulkJobExecutor") ThreadPoolTaskExecutor bulkJobExecutor,
+                                    ApplicationEventPublisher eventPublisher,
+                                    UserCache userCache) {
+        this.studentRepository = studentRepository;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.bulkJobExecutor = bulkJobExecutor;
+        this.eventPublisher = eventPublisher;
+        this.userCache = userCache;
+    }
+
+    // ----- Single student: hash off the request thread, then save user + student together -----
+    // Throws TaskRejectedException when the hashing queue is full
+    public CompletableFuture<Student> createStudent(Student student) {
+        return CompletableFuture
+                .supplyAsync(() -> passwordEncoder.encode(DEFAULT_PASSWORD), passwordHashingExecutor)
+                .thenApply(hash -> transactionTemplate.execute(status -> {
+                    User user = newStudentUser(student.getEmail(), hash);
+                    userRepository.save(user);
+                    student.setUser(user);
+                    return studentRepository.save(student);
+                }))
+                .thenApply(saved -> {
+                    userCache.removeUserFromCache(saved.getEmail());
+                    eventPublisher.publishEvent(StudentDataChangedEvent.created(List.of(saved.getId())));
+                    return saved;
+                });
+    }
+
+    // ----- Bulk onboarding -----
+    // Throws TaskRejectedException when the bulk job queue is full
+    public BulkJobStatus startBulkOnboarding(List<StudentOnboardingRow> rows) {
+        BulkJobStatus job = new BulkJobStatus(rows.size());
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            if (jobs.size() > MAX_TRACKED_JOBS) {
+                jobs.values().removeIf(j -> j.isFinished() && jobs.size() > MAX_TRACKED_JOBS);
+            }
+        }
+        try {
+            bulkJobExecutor.execute(() -> runBulkOnboarding(job, rows));
+        } catch (TaskRejectedException e) {
+            // Never started, so it would stay QUEUED (and never be evicted) if kept
+            synchronized (jobs) {
+                jobs.remove(job.getId());
+            }
+            throw e;
+        }
+        return job;
+    }
+
+    public Optional<BulkJobStatus> findJob(String jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId));
+        }
+    }
+
+    // CSV rows: name,email,rollNumber (optional header row)
+    public List<StudentOnboardingRow> parseCsv(InputStream in) throws IOException {
+        List<StudentOnboardingRow> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            boolean first = true;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] cols = CsvRows.split(line);
+                if (first && CsvRows.isHeader(cols, "name")) {
+                    first = false;
+                    continue;
+                }
+                first = false;
+                rows.add(new StudentOnboardingRow(
+                        cols.length > 0 ? cols[0] : null,
+                        cols.length > 1 ? cols[1] : null,
+                        cols.length > 2 ? cols[2] : null));
+            }
+        }
+        return rows;
+    }
+
+    private void runBulkOnboarding(BulkJobStatus job, List<StudentOnboardingRow> rows) {
+        job.start();
+        try {
+            Set<String> seenEmails = new HashSet<>();
+            Set<String> seenRollNumbers = new HashSet<>();
+            for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+                List<StudentOnboardingRow> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+                onboardChunk(job, chunk, from, seenEmails, seenRollNumbers);
+            }
+            job.complete();
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void onboardChunk(BulkJobStatus job, List<StudentOnboardingRow> chunk, int offset,
+                              Set<String> seenEmails, Set<String> seenRollNumbers) {
+        // Two lookups per chunk instead of a duplicate check per row
+        Set<String> existingUsernames = new HashSet<>(userRepository.findExistingUsernames(
+                chunk.stream().map(StudentOnboardingRow::getEmail).filter(e -> e != null && !e.isBlank()).toList()));
+        Set<String> existingRollNumbers = new HashSet<>(studentRepository.findExistingRollNumbers(
+                chunk.stream().map(StudentOnboardingRow::getRollNumber).filter(r -> r != null && !r.isBlank()).toList()));
+
+        List<StudentOnboardingRow> valid = new ArrayList<>(chunk.size());
+        List<Long> validRowNumbers = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            StudentOnboardingRow row = chunk.get(i);
+            long rowNumber = offset + i + 1;
+            String error = validate(row, existingUsernames, existingRollNumbers, seenEmails, seenRollNumbers);
+            if (error != null) {
+                job.error(rowNumber, error);
+            } else {
+                valid.add(row);
+                validRowNumbers.add(rowNumber);
+            }
+        }
+
+        // Hash the whole chunk in parallel across cores
+        List<CompletableFuture<String>> hashes = valid.stream()
+                .map(row -> hashOnExecutorOrHere())
+                .toList();
+        CompletableFuture.allOf(hashes.toArray(new CompletableFuture[0])).join();
+
+        try {
+            List<Student> saved = transactionTemplate.execute(status -> {
+                List<User> users = new ArrayList<>(valid.size());
+                List<Student> students = new ArrayList<>(valid.size());
+                for (int i = 0; i < valid.size(); i++) {
+                    StudentOnboardingRow row = valid.get(i);
+                    User user = newStudentUser(row.getEmail(), hashes.get(i).join());
+                    Student student = new Student();
+                    student.setName(row.getName());
+                    student.setEmail(row.getEmail());
+                    student.setRollNumber(row.getRollNumber());
+                    student.setUser(user);
+                    users.add(user);
+                    students.add(student);
+                }
+                userRepository.saveAll(users);
+                return studentRepository.saveAll(students);
+            });
+            job.progress(chunk.size(), valid.size());
+            for (Student student : saved) {
+                userCache.removeUserFromCache(student.getEmail());
+            }
+            if (!saved.isEmpty()) {
+                eventPublisher.publishEvent(StudentDataChangedEvent.created(saved.stream().map(Student::getId).toList()));
+            }
+        } catch (DataAccessException e) {
+            // Lost a race with another writer; the chunk was rolled back as a whole
+            String reason = "Chunk rejected by the database: " + e.getMostSpecificCause().getMessage();
+            for (Long rowNumber : validRowNumbers) {
+                job.error(rowNumber, reason);
+            }
+            job.progress(chunk.size(), 0);
+        }
+    }
+
+    // Called on a bulk worker, so hashing here when the queue is full never blocks a request thread
+    private CompletableFuture<String> hashOnExecutorOrHere() {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(DEFAULT_PASSWORD), passwordHashingExecutor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.completedFuture(passwordEncoder.encode(DEFAULT_PASSWORD));
+        }
+    }
+
+    private static String validate(StudentOnboardingRow row,
+                                   Set<String> existingUsernames, Set<String> existingRollNumbers,
+                                   Set<String> seenEmails, Set<String> seenRollNumbers) {
+        if (row.getName() == null || row.getName().isBlank()) {
+            return "Name is required";
+        }
+        if (row.getEmail() == null || row.getEmail().isBlank()) {
+            return "Email is required";
+        }
+        if (row.getRollNumber() == null || row.getRollNumber().isBlank()) {
+            return "Roll number is required";
+        }
+        if (existingUsernames.contains(row.getEmail()) || seenEmails.contains(row.getEmail())) {
+            return "A user with email " + row.getEmail() + " already exists";
+        }
+        if (existingRollNumbers.contains(row.getRollNumber()) || seenRollNumbers.contains(row.getRollNumber())) {
+            return "Roll number " + row.getRollNumber() + " already exists";
+        }
+        seenEmails.add(row.getEmail());
+        seenRollNumbers.add(row.getRollNumber());
+        return null;
+    }
+
+    private static User newStudentUser(String email, String passwordHash) {
+        User user = new User();
+        user.setUsername(email);                 // email as username
+        user.setPassword(passwordHash);
+        user.setRole("STUDENT");
+        return user;
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.StudentSuggestion;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.StudentRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Case-insensitive substring search over student name, email and roll number.
+ * <p>
+ * Every field is split into trigrams, each mapped to the sorted ids of the students containing
+ * it. A keyword of three or more characters intersects its trigrams' lists, smallest first, and
+ * then checks the few candidates left, so the cost depends on the matches rather than the table
+ * size. Shorter keywords have no trigram and scan the in-memory fields instead.
+ * <p>
+ * Loaded once the application is ready, then patched after every committed student change.
+ */
+@Service
+public class StudentSearchIndex {
+
+    static final int GRAM = 3;
+
+    private final StudentRepository studentRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+
+    // Serialises refreshes so an older re-read can never be applied after a newer one. A lock
+    // rather than a monitor: it is held across a query, which would pin a virtual thread.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // Bumped under the write lock after each rebuild or patch, for caches of search results
+    private final AtomicLong generation = new AtomicLong();
+
+    public StudentSearchIndex(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        refreshLock.lock();
+        try {
+            List<StudentSuggestion> students = new ArrayList<>(studentRepository.findAllSuggestions());
+            students.sort(Comparator.comparing(StudentSuggestion::getId)); // postings then just append
+            lock.writeLock().lock();
+            try {
+                documents.clear();
+                postings.clear();
+                for (StudentSuggestion student : students) {
+                    add(new Document(student));
+                }
+                generation.incrementAndGet();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentDataChanged(StudentDataChangedEvent event) {
+        if (event.getChange() == StudentDataChangedEvent.Change.MARKS) {
+            return;
+        }
+        refreshLock.lock();
+        try {
+            List<StudentSuggestion> students = event.getChange() == StudentDataChangedEvent.Change.DELETED
+                    ? List.of()
+                    : studentRepository.findSuggestions(event.getStudentIds());
+            lock.writeLock().lock();
+            try {
+                for (Long studentId : event.getStudentIds()) {
+                    remove(studentId);
+                }
+                for (StudentSuggestion student : students) {
+                    add(new Document(student));
+                }
+                generation.incrementAndGet();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    // Ids of all students whose name, email or roll number contains the keyword, ascending
+    public long[] search(String keyword) {
+        String needle = normalise(keyword);
+        lock.readLock().lock();
+        try {
+            if (needle.isEmpty()) {
+                return sortedIds(documents.keySet());
+            }
+            if (needle.length() < GRAM) {
+                return scan(needle);
+            }
+            return intersect(needle);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Up to limit matches, those with a field starting with the keyword first, then by id
+    public List<StudentSuggestion> suggest(String keyword, int limit) {
+        String needle = normalise(keyword);
+        if (needle.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            long[] ids = needle.length() < GRAM ? scan(needle) : intersect(needle);
+            List<StudentSuggestion> prefixed = new ArrayList<>(limit);
+            List<StudentSuggestion> others = new ArrayList<>(limit);
+            for (long id : ids) {
+                Document document = documents.get(id);
+                if (document.startsWith(needle)) {
+                    prefixed.add(document.student);
+                    if (prefixed.size() == limit) {
+                        break;
+                    }
+                } else if (others.size() < limit) {
+                    others.add(document.student);
+                }
+            }
+            for (int i = 0; prefixed.size() < limit && i < others.size(); i++) {
+                prefixed.add(others.get(i));
+            }
+            return prefixed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ----- Lookups (read lock held) -----
+
+    private long[] intersect(String needle) {
+        Set<Long> grams = trigramsOf(needle);
+        List<PostingList> lists = new ArrayList<>(grams.size());
+        for (Long gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new long[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList smallest = lists.get(0);
+        long[] matches = new long[smallest.size()];
+        int count = 0;
+        candidates:
+        for (int i = 0; i < smallest.size(); i++) {
+            long id = smallest.get(i);
+            for (int j = 1; j < lists.size(); j++) {
+                if (!lists.get(j).contains(id)) {
+                    continue candidates;
+                }
+            }
+            // Shared trigrams do not guarantee a contiguous match
+            if (documents.get(id).contains(needle)) {
+                matches[count++] = id;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private long[] scan(String needle) {
+        long[] matches = new long[documents.size()];
+        int count = 0;
+        for (Document document : documents.values()) {
+            if (document.contains(needle)) {
+                matches[count++] = document.student.getId();
+            }
+        }
+        long[] result = Arrays.copyOf(matches, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    // ----- Maintenance (write lock held) -----
+
+    private void add(Document document) {
+        Long id = document.student.getId();
+        documents.put(id, document);
+        for (Long gram : document.trigrams()) {
+            postings.computeIfAbsent(gram, g -> new PostingList()).add(id);
+        }
+    }
+
+    private void remove(Long studentId) {
+        Document document = documents.remove(studentId);
+        if (document == null) {
+            return;
+        }
+        for (Long gram : document.trigrams()) {
+            PostingList list = postings.get(gram);
+            if (list != null) {
+                list.remove(studentId);
+                if (list.size() == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static long[] sortedIds(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    static String normalise(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Three UTF-16 chars packed into one long
+    private static Set<Long> trigramsOf(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static final class Document {
+        private final StudentSuggestion student;
+        private final String name;
+        private final String email;
+        private final String rollNumber;
+
+        Document(StudentSuggestion student) {
+            this.student = student;
+            this.name = normalise(student.getName());
+            this.email = normalise(student.getEmail());
+            this.rollNumber = normalise(student.getRollNumber());
+        }
+
+        boolean contains(String needle) {
+            return name.contains(needle) || email.contains(needle) || rollNumber.contains(needle);
+        }
+
+        boolean startsWith(String needle) {
+            return name.startsWith(needle) || email.startsWith(needle) || rollNumber.startsWith(needle);
+        }
+
+        // Per field, so no trigram spans two fields
+        Set<Long> trigrams() {
+            Set<Long> grams = trigramsOf(name);
+            grams.addAll(trigramsOf(email));
+            grams.addAll(trigramsOf(rollNumber));
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.MarkFrequency;
+import com.example.studentdb.dto.SubjectStatistics;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.MarkRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-subject mark statistics. The database groups marks by value (at most 101 rows per subject),
+ * {@link ScoreDistribution} folds them in one pass, and the result is cached until that
+ * subject's marks change.
+ */
+@Service
+public class SubjectStatisticsService {
+
+    private final SubjectRepository subjectRepository;
+    private final MarkRepository markRepository;
+
+    private final ConcurrentHashMap<Long, Entry> cache = new ConcurrentHashMap<>();
+    // Bumped per subject, or globally when a change does not say which subjects it touched
+    private final ConcurrentHashMap<Long, Long> subjectVersions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long globalVersion;
+
+    public SubjectStatisticsService(SubjectRepository subjectRepository, MarkRepository markRepository) {
+        this.subjectRepository = subjectRepository;
+        this.markRepository = markRepository;
+    }
+
+    public Optional<SubjectStatistics> statistics(Long subjectId) {
+        SubjectStatistics cached = cached(subjectId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return subjectRepository.findById(subjectId).map(subject -> load(List.of(subject)).get(0));
+    }
+
+    // Every subject, in subject order; only the stale ones are recomputed (in one query)
+    public List<SubjectStatistics> allStatistics() {
+        List<Subject> subjects = subjectRepository.findAll();
+        List<Subject> missing = new ArrayList<>();
+        for (Subject subject : subjects) {
+            if (cached(subject.getId()) == null) {
+                missing.add(subject);
+            }
+        }
+        Map<Long, SubjectStatistics> loaded = new HashMap<>();
+        if (!missing.isEmpty()) {
+            for (SubjectStatistics statistics : load(missing)) {
+                loaded.put(statistics.getSubjectId(), statistics);
+            }
+        }
+        List<SubjectStatistics> all = new ArrayList<>(subjects.size());
+        for (Subject subject : subjects) {
+            SubjectStatistics statistics = loaded.get(subject.getId());
+            all.add(statistics != null ? statistics : cached(subject.getId()));
+        }
+        return all;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentDataChanged(StudentDataChangedEvent event) {
+        if (!event.touchesMarks()) {
+            return;
+        }
+        if (event.getSubjectIds().isEmpty()) {
+            globalVersion = sequence.incrementAndGet();
+            cache.clear();
+            return;
+        }
+        for (Long subjectId : event.getSubjectIds()) {
+            subjectVersions.put(subjectId, sequence.incrementAndGet());
+            cache.remove(subjectId);
+        }
+    }
+
+    private SubjectStatistics cached(Long subjectId) {
+        Entry entry = cache.get(subjectId);
+        return entry != null && entry.matches(globalVersion, subjectVersions.getOrDefault(subjectId, 0L))
+                ? entry.statistics : null;
+    }
+
+    private List<SubjectStatistics> load(List<Subject> subjects) {
+        // Versions first, then the data: a concurrent change can only make the entry stale
+        long global = globalVersion;
+        Map<Long, Long> versions = new HashMap<>();
+        Map<Long, ScoreDistribution> distributions = new HashMap<>();
+        for (Subject subject : subjects) {
+            versions.put(subject.getId(), subjectVersions.getOrDefault(subject.getId(), 0L));
+            distributions.put(subject.getId(), new ScoreDistribution());
+        }
+
+        for (MarkFrequency row : markRepository.findMarkFrequencies(distributions.keySet())) {
+            distributions.get(row.getSubjectId()).add(row.getMarks(), row.getCount());
+        }
+
+        List<SubjectStatistics> result = new ArrayList<>(subjects.size());
+        for (Subject subject : subjects) {
+            SubjectStatistics statistics = distributions.get(subject.getId())
+                    .toStatistics(subject.getId(), subject.getName());
+            cache.put(subject.getId(), new Entry(global, versions.get(subject.getId()), statistics));
+            result.add(statistics);
+        }
+        return result;
+    }
+
+    private record Entry(long globalVersion, long subjectVersion, SubjectStatistics statistics) {
+        boolean matches(long currentGlobal, long currentSubject) {
+            return globalVersion == currentGlobal && subjectVersion == currentSubject;
+        }
+    }
+}
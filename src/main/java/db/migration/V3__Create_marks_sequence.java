@@ -0,0 +1,33 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Creates the pooled sequence behind {@code Mark.id}, which lets Hibernate batch mark inserts.
+ * Written in Java because the start value depends on the existing rows and PostgreSQL/H2
+ * have no common way to seed a sequence from a query.
+ */
+public class V3__Create_marks_sequence extends BaseJavaMigration {
+
+    // Must match allocationSize on Mark's @SequenceGenerator
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet rs = statement.executeQuery("select coalesce(max(id), 0) from marks")) {
+                rs.next();
+                maxId = rs.getLong(1);
+            }
+            // Hibernate's pooled optimizer hands out (value - allocationSize, value], so the first
+            // value must sit a full block above the highest existing id
+            long start = maxId + ALLOCATION_SIZE;
+            statement.execute("create sequence marks_seq start with " + start + " increment by " + ALLOCATION_SIZE);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto=update
+
+create table if not exists users (
+    id       bigint generated by default as identity primary key,
+    username varchar(255) not null unique,
+    password varchar(255) not null,
+    role     varchar(255) not null
+);
+
+create table if not exists subjects (
+    id   bigint generated by default as identity primary key,
+    name varchar(255)
+);
+
+create table if not exists students (
+    id          bigint generated by default as identity primary key,
+    name        varchar(255),
+    email       varchar(255),
+    roll_number varchar(255) unique,
+    user_id     bigint unique references users (id)
+);
+
+create table if not exists marks (
+    id         bigint generated by default as identity primary key,
+    marks      integer,
+    student_id bigint references students (id),
+    subject_id bigint references subjects (id),
+    unique (student_id, subject_id)
+);
@@ -0,0 +1,6 @@
+-- Indexes behind the finders: findByEmail, findByUserUsername, findByStudent and per-subject lookups
+
+create index if not exists idx_students_email on students (email);
+create index if not exists idx_students_user_id on students (user_id);
+create index if not exists idx_marks_student_id on marks (student_id);
+create index if not exists idx_marks_subject_id on marks (subject_id);
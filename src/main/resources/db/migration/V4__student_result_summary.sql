@@ -0,0 +1,17 @@
+-- Per-student result totals, kept up to date by ResultSummaryService whenever marks change
+
+create table student_result_summary (
+    student_id    bigint primary key references students (id) on delete cascade,
+    total_marks   bigint      not null,
+    subject_count bigint      not null,
+    min_mark      integer,
+    status        varchar(10) not null
+);
+
+-- Backfill (same statement as ResultSummaryService.rebuildAll)
+insert into student_result_summary (student_id, total_marks, subject_count, min_mark, status)
+select s.id, coalesce(sum(m.marks), 0), count(m.id), min(m.marks),
+       case when count(m.id) = 0 or min(m.marks) < 35 then 'Fail' else 'Pass' end
+from students s
+         left join marks m on m.student_id = s.id
+group by s.id;
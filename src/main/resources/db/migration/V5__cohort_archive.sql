@@ -0,0 +1,32 @@
+-- Copies of students, their marks and logins removed by CohortArchiveService (graduated cohorts).
+-- No foreign keys: the rows they pointed at are gone. Password hashes are not kept.
+
+create table archived_users (
+    id          bigint primary key,
+    username    varchar(255) not null,
+    role        varchar(255) not null,
+    archived_at timestamp    not null
+);
+
+create table archived_students (
+    id          bigint primary key,
+    name        varchar(255),
+    email       varchar(255),
+    roll_number varchar(255),
+    user_id     bigint,
+    archived_at timestamp not null
+);
+
+create index idx_archived_students_roll_number on archived_students (roll_number);
+
+-- Subject name copied too, so the record still reads correctly if the subject is later renamed or removed
+create table archived_marks (
+    id           bigint primary key,
+    marks        integer,
+    student_id   bigint,
+    subject_id   bigint,
+    subject_name varchar(255),
+    archived_at  timestamp not null
+);
+
+create index idx_archived_marks_student on archived_marks (student_id);
@@ -0,0 +1,136 @@
+package com.example.studentdb.benchmark;
+
+import com.example.studentdb.entity.User;
+import com.example.studentdb.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.cache.NullUserCache;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Logins per second through the {@link DaoAuthenticationProvider}, with and without the
+ * user cache, against the H2 test database. Not part of the regular build (surefire only
+ * picks up *Tests classes); run it explicitly:
+ * <pre>
+ * mvn test -Dtest=LoginThroughputBenchmark
+ * </pre>
+ * Every user logs in once before each measurement, so the cached runs show repeat logins.
+ * Two password costs are measured: BCrypt strength 10 (the production default, where hashing
+ * dominates) and strength 4 (cheap hashing, which exposes the cost of the user lookup).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LoginThroughputBenchmark {
+
+	private static final int USERS = 200;
+	private static final String PASSWORD = "bench-secret";
+	private static final long MEASURE_MILLIS = 5_000;
+
+	@Autowired
+	private DaoAuthenticationProvider authenticationProvider;
+
+	@Autowired
+	private UserCache userCache;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void loginsPerSecondWithAndWithoutUserCache() throws Exception {
+		List<String> strong = seed("bench-bcrypt10-", new BCryptPasswordEncoder(10).encode(PASSWORD));
+		List<String> cheap = seed("bench-bcrypt4-", new BCryptPasswordEncoder(4).encode(PASSWORD));
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		List<String> report = new ArrayList<>();
+		try {
+			for (List<String> usernames : List.of(strong, cheap)) {
+				String cost = usernames == strong ? "bcrypt(10)" : "bcrypt(4) ";
+				for (boolean cached : new boolean[] {false, true}) {
+					authenticationProvider.setUserCache(cached ? userCache : new NullUserCache());
+					warmUp(usernames);
+					statistics.clear();
+					long logins = run(usernames, MEASURE_MILLIS);
+					double perLogin = (double) statistics.getPrepareStatementCount() / logins;
+					report.add(String.format("%s  cache=%-5s  %10.1f logins/s  %.3f SQL statements/login",
+							cost, cached, logins * 1000.0 / MEASURE_MILLIS, perLogin));
+					if (cached) {
+						assertThat(perLogin).isLessThan(0.05);
+					}
+				}
+			}
+		} finally {
+			authenticationProvider.setUserCache(userCache);
+		}
+
+		System.out.println("=== Login throughput (" + Runtime.getRuntime().availableProcessors() + " threads) ===");
+		report.forEach(System.out::println);
+	}
+
+	private List<String> seed(String prefix, String passwordHash) {
+		List<User> users = new ArrayList<>(USERS);
+		for (int i = 0; i < USERS; i++) {
+			User user = new User();
+			user.setUsername(prefix + i + "@srms.test");
+			user.setPassword(passwordHash);
+			user.setRole("STUDENT");
+			users.add(user);
+		}
+		userRepository.saveAll(users);
+		return users.stream().map(User::getUsername).toList();
+	}
+
+	// Every user logs in once, which also fills the cache when it is enabled
+	private void warmUp(List<String> usernames) {
+		usernames.parallelStream().forEach(username ->
+				authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(username, PASSWORD)));
+	}
+
+	// One thread per core, each logging in random users until the deadline; returns the total
+	private long run(List<String> usernames, long millis) throws Exception {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+			List<Future<Long>> counts = new ArrayList<>(threads);
+			for (int t = 0; t < threads; t++) {
+				counts.add(executor.submit(() -> {
+					long logins = 0;
+					while (System.nanoTime() < deadline) {
+						String username = usernames.get(ThreadLocalRandom.current().nextInt(usernames.size()));
+						authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(username, PASSWORD));
+						logins++;
+					}
+					return logins;
+				}));
+			}
+			long total = 0;
+			for (Future<Long> count : counts) {
+				total += count.get();
+			}
+			return total;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.example.studentdb.benchmark;
+
+/**
+ * {@link ResultPdfLatencyBenchmark} on Tomcat's platform request threads (the default mode).
+ */
+class PlatformThreadPdfLatencyBenchmark extends ResultPdfLatencyBenchmark {
+}
@@ -0,0 +1,215 @@
+package com.example.studentdb.benchmark;
+
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.repository.UserRepository;
+import com.example.studentdb.service.MarkService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of {@code GET /student/results/pdf} over real HTTP under a closed-loop load: each of
+ * {@link #CLIENTS} clients logs in as its own student and downloads its result card back to
+ * back. The PDF cache is disabled, so every request reads the database and renders.
+ * <p>
+ * Subclasses pick the threading mode; run both and compare the percentiles:
+ * <pre>
+ * mvn test -Dtest='*PdfLatencyBenchmark'
+ * </pre>
+ * The virtual-thread run needs Java 21+ and is skipped on older JDKs.
+ * <p>
+ * Recorded so far (platform threads, Java 17, 1 core, H2): 105 requests/s, p50 2616 ms,
+ * p95 5789 ms, p99 7706 ms. The virtual-thread p99 has not been recorded yet; it needs a
+ * Java 21 run of both benchmarks on the same machine.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "srms.pdf-cache.max-size=0")
+@ActiveProfiles("test")
+abstract class ResultPdfLatencyBenchmark {
+
+	// More than Tomcat's default 200 request threads, so the platform run has to queue
+	private static final int CLIENTS = 300;
+	private static final String PASSWORD = "bench-secret";
+	private static final long WARM_UP_MILLIS = 5_000;
+	private static final long MEASURE_MILLIS = 15_000;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private Environment environment;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	private final HttpClient http = HttpClient.newBuilder()
+			.followRedirects(HttpClient.Redirect.NEVER)
+			.connectTimeout(Duration.ofSeconds(10))
+			.build();
+
+	@Test
+	void resultPdfLatencyPercentiles() throws Exception {
+		String mode = Threading.VIRTUAL.isActive(environment) ? "virtual threads" : "platform threads";
+		List<String> usernames = seed(mode.startsWith("virtual") ? "bench-vt-" : "bench-pt-");
+		List<String> sessions = new ArrayList<>(CLIENTS);
+		for (String username : usernames) {
+			sessions.add(login(username));
+		}
+
+		run(sessions, WARM_UP_MILLIS);
+		long[] latencies = run(sessions, MEASURE_MILLIS);
+		Arrays.sort(latencies);
+
+		System.out.println("=== /student/results/pdf, " + mode + ", " + CLIENTS + " clients, "
+				+ Runtime.getRuntime().availableProcessors() + " cores ===");
+		System.out.printf("%10.1f requests/s  p50 %6.1f ms  p95 %6.1f ms  p99 %6.1f ms  max %6.1f ms%n",
+				latencies.length * 1000.0 / MEASURE_MILLIS, millis(latencies, 0.50), millis(latencies, 0.95),
+				millis(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+		assertThat(latencies).isNotEmpty();
+	}
+
+	private List<String> seed(String prefix) {
+		String passwordHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+		List<Subject> subjects = new ArrayList<>();
+		for (String name : List.of("Maths", "Physics", "Chemistry")) {
+			Subject subject = new Subject();
+			subject.setName(prefix + name);
+			subjects.add(subjectRepository.save(subject));
+		}
+
+		List<String> usernames = new ArrayList<>(CLIENTS);
+		for (int i = 0; i < CLIENTS; i++) {
+			User user = new User();
+			user.setUsername(prefix + i + "@srms.test");
+			user.setPassword(passwordHash);
+			user.setRole("STUDENT");
+			userRepository.save(user);
+
+			Student student = new Student();
+			student.setName("Bench Student " + i);
+			student.setEmail(user.getUsername());
+			student.setRollNumber(prefix + i);
+			student.setUser(user);
+			studentRepository.save(student);
+
+			for (Subject subject : subjects) {
+				Mark mark = new Mark();
+				mark.setStudent(student);
+				mark.setSubject(subject);
+				mark.setMarks(35 + (i * 13 + subject.getId().intValue()) % 65);
+				markService.save(mark);
+			}
+			usernames.add(user.getUsername());
+		}
+		return usernames;
+	}
+
+	// Form login; returns the authenticated session cookie
+	private String login(String username) throws Exception {
+		String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+				+ "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+		HttpResponse<Void> response = http.send(HttpRequest.newBuilder(uri("/login"))
+				.header("Content-Type", "application/x-www-form-urlencoded")
+				.POST(HttpRequest.BodyPublishers.ofString(form))
+				.build(), HttpResponse.BodyHandlers.discarding());
+		assertThat(response.headers().firstValue("Location")).hasValueSatisfying(
+				location -> assertThat(location).endsWith("/default"));
+		return response.headers().allValues("Set-Cookie").stream()
+				.filter(cookie -> cookie.startsWith("JSESSIONID="))
+				.map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+				.findFirst().orElseThrow();
+	}
+
+	// One thread per client, each downloading until the deadline; returns every latency in nanos
+	private long[] run(List<String> sessions, long millis) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(sessions.size());
+		try {
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+			List<Future<long[]>> results = new ArrayList<>(sessions.size());
+			for (String session : sessions) {
+				results.add(executor.submit(() -> download(session, deadline)));
+			}
+			long[][] perClient = new long[results.size()][];
+			int total = 0;
+			for (int i = 0; i < perClient.length; i++) {
+				perClient[i] = results.get(i).get();
+				total += perClient[i].length;
+			}
+			long[] all = new long[total];
+			int at = 0;
+			for (long[] latencies : perClient) {
+				System.arraycopy(latencies, 0, all, at, latencies.length);
+				at += latencies.length;
+			}
+			return all;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private long[] download(String session, long deadline) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(uri("/student/results/pdf"))
+				.header("Cookie", session)
+				.timeout(Duration.ofSeconds(60))
+				.build();
+		long[] latencies = new long[64];
+		int count = 0;
+		while (System.nanoTime() < deadline) {
+			long start = System.nanoTime();
+			HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+			long elapsed = System.nanoTime() - start;
+			assertThat(response.statusCode()).isEqualTo(200);
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = elapsed;
+		}
+		return Arrays.copyOf(latencies, count);
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	// Nearest-rank percentile of sorted nanos, in milliseconds
+	private static double millis(long[] sorted, double percentile) {
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(index, 0)] / 1e6;
+	}
+}
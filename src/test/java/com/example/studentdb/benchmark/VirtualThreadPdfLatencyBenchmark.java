@@ -0,0 +1,14 @@
+package com.example.studentdb.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@link ResultPdfLatencyBenchmark} with the vthreads profile: a virtual thread per request and
+ * database access capped at the connection pool size.
+ */
+@ActiveProfiles("vthreads")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPdfLatencyBenchmark extends ResultPdfLatencyBenchmark {
+}
@@ -0,0 +1,81 @@
+package com.example.studentdb.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitingDataSourceTests {
+
+	@Test
+	void waitersGetAConnectionOnceOneIsClosed() throws Exception {
+		DataSource target = mock(DataSource.class);
+		when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+		ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 2, 5_000);
+
+		Connection first = dataSource.getConnection();
+		Connection second = dataSource.getConnection();
+		assertThat(dataSource.getAvailablePermits()).isZero();
+
+		CompletableFuture<Connection> third = CompletableFuture.supplyAsync(() -> {
+			try {
+				return dataSource.getConnection();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		Thread.sleep(100);
+		assertThat(third).isNotDone();
+
+		first.close();
+		third.get(5, TimeUnit.SECONDS).close();
+		second.close();
+		assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+	}
+
+	@Test
+	void closingTwiceReleasesOnePermit() throws Exception {
+		DataSource target = mock(DataSource.class);
+		Connection connection = mock(Connection.class);
+		when(target.getConnection()).thenReturn(connection);
+		ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, 5_000);
+
+		Connection limited = dataSource.getConnection();
+		limited.close();
+		limited.close();
+
+		assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+		verify(connection, times(2)).close();
+	}
+
+	@Test
+	void waitingLongerThanTheTimeoutFails() throws Exception {
+		DataSource target = mock(DataSource.class);
+		when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+		ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, 50);
+
+		dataSource.getConnection();
+
+		assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+	}
+
+	@Test
+	void aFailedCheckoutGivesItsPermitBack() throws Exception {
+		DataSource target = mock(DataSource.class);
+		when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+		ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, 50);
+
+		assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+		assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,126 @@
+package com.example.studentdb.controller;
+
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.MarkRepository;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.repository.UserRepository;
+import com.example.studentdb.service.MarkService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AddMarkTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private MarkRepository markRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void newMarkIsSavedAndCountsTowardsTheSummary() throws Exception {
+		Subject subject = seedSubject("Add Mark Optics");
+		Student student = seedStudent("add-mark-new@srms.test", "ADD-1");
+
+		MockHttpServletResponse saved = perform(post("/admin/marks/save").with(csrf()).with(user("admin").roles("ADMIN"))
+				.param("student.id", student.getId().toString())
+				.param("subject.id", subject.getId().toString())
+				.param("marks", "66"));
+		assertThat(saved.getStatus()).isEqualTo(302);
+		assertThat(saved.getRedirectedUrl()).isEqualTo("/admin/marks");
+		assertThat(markRepository.findByStudentAndSubject(student, subject)).get()
+				.extracting(Mark::getMarks).isEqualTo(66);
+		assertThat(studentRepository.findResultSummary(student.getId()).getTotalMarks()).isEqualTo(66);
+	}
+
+	@Test
+	void duplicateMarkKeepsEverythingThatWasEntered() throws Exception {
+		Subject subject = seedSubject("Add Mark Relativity");
+		Student student = seedStudent("add-mark-duplicate@srms.test", "ADD-2");
+		saveMark(student, subject, 44);
+
+		MockHttpServletResponse duplicate = perform(post("/admin/marks/save").with(csrf()).with(user("admin").roles("ADMIN"))
+				.param("student.id", student.getId().toString())
+				.param("subject.id", subject.getId().toString())
+				.param("marks", "87"));
+		assertThat(duplicate.getStatus()).isEqualTo(200);
+		assertThat(duplicate.getContentAsString())
+				.contains("already exist")
+				.contains("ADD-2 - Add Mark Student")
+				.contains("Add Mark Relativity")
+				.contains("value=\"87\"");
+		assertThat(markRepository.findByStudentAndSubject(student, subject)).get()
+				.extracting(Mark::getMarks).isEqualTo(44);
+	}
+
+	private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+		return mockMvc.perform(request).andReturn().getResponse();
+	}
+
+	private void saveMark(Student student, Subject subject, int marks) {
+		Mark mark = new Mark();
+		mark.setStudent(student);
+		mark.setSubject(subject);
+		mark.setMarks(marks);
+		markService.save(mark);
+	}
+
+	private Subject seedSubject(String name) {
+		Subject subject = new Subject();
+		subject.setName(name);
+		return subjectRepository.save(subject);
+	}
+
+	private Student seedStudent(String email, String rollNumber) {
+		User user = new User();
+		user.setUsername(email);
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+
+		Student student = new Student();
+		student.setName("Add Mark Student");
+		student.setEmail(email);
+		student.setRollNumber(rollNumber);
+		student.setUser(user);
+		studentRepository.save(student);
+		eventPublisher.publishEvent(StudentDataChangedEvent.created(List.of(student.getId())));
+		return student;
+	}
+}
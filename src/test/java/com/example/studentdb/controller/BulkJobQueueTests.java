@@ -0,0 +1,102 @@
+package com.example.studentdb.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BulkJobQueueTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	@Qualifier("bulkJobExecutor")
+	private ThreadPoolTaskExecutor bulkJobExecutor;
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	// Every worker busy and every queue slot taken
+	@BeforeEach
+	void fillQueue() {
+		fillUntilRejected();
+		// Idle workers may only now take their first blocker off the queue: wait for them, then top up
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (bulkJobExecutor.getActiveCount() < bulkJobExecutor.getMaxPoolSize() && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		fillUntilRejected();
+	}
+
+	private void fillUntilRejected() {
+		try {
+			while (true) {
+				bulkJobExecutor.execute(() -> {
+					try {
+						release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+		} catch (TaskRejectedException full) {
+			// expected once the queue is full
+		}
+	}
+
+	@AfterEach
+	void drainQueue() {
+		release.countDown();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while ((bulkJobExecutor.getActiveCount() > 0 || bulkJobExecutor.getQueueSize() > 0)
+				&& System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+	}
+
+	@Test
+	void bulkOnboardingIsRefusedWithRetryAfterWhenTheQueueIsFull() throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(post("/admin/students/bulk").with(csrf())
+						.with(user("admin").roles("ADMIN"))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("[{\"name\":\"Queue Full\",\"email\":\"queue-full@srms.test\",\"rollNumber\":\"QF-1\"}]"))
+				.andReturn().getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(503);
+		assertThat(response.getHeader("Retry-After")).isEqualTo("30");
+		assertThat(response.getHeader("Location")).isNull();
+	}
+
+	@Test
+	void cohortArchiveIsRefusedWithRetryAfterWhenTheQueueIsFull() throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(post("/admin/students/archive").with(csrf())
+						.with(user("admin").roles("ADMIN"))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"rollNumberPrefix\":\"QF-\"}"))
+				.andReturn().getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(503);
+		assertThat(response.getHeader("Retry-After")).isEqualTo("30");
+		assertThat(response.getHeader("Location")).isNull();
+	}
+}
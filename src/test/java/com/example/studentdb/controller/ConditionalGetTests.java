@@ -0,0 +1,193 @@
+package com.example.studentdb.controller;
+
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.repository.UserRepository;
+import com.example.studentdb.service.MarkService;
+import com.example.studentdb.service.StudentDataVersions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTests {
+
+	// Later than any change, so a page that honoured If-Modified-Since would answer 304
+	private static final String FUTURE = "Sun, 01 Jan 2040 00:00:00 GMT";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	@Autowired
+	private StudentDataVersions versions;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void unchangedResultsAndPdfAreNotModifiedUntilAMarkChanges() throws Exception {
+		Student student = seedStudent("etag-student@srms.test", "ETAG-1");
+		Subject subject = seedSubject("Etag Botany");
+		saveMark(student, subject, 55);
+
+		for (String url : List.of("/student/results", "/student/results/pdf")) {
+			MockHttpServletResponse first = perform(get(url).with(user(student.getEmail()).roles("STUDENT")));
+			String etag = first.getHeader("ETag");
+			assertThat(first.getStatus()).isEqualTo(200);
+			assertThat(etag).startsWith("\"");
+			assertThat(first.getHeader("Cache-Control")).contains("private").contains("no-cache");
+
+			MockHttpServletResponse repeat = perform(get(url).with(user(student.getEmail()).roles("STUDENT"))
+					.header("If-None-Match", etag));
+			assertThat(repeat.getStatus()).as(url).isEqualTo(304);
+			assertThat(repeat.getContentLength()).isZero();
+
+			// Per-student pages validate by ETag only
+			assertThat(first.getHeader("Last-Modified")).as(url).isNull();
+			MockHttpServletResponse sinceNow = perform(get(url).with(user(student.getEmail()).roles("STUDENT"))
+					.header("If-Modified-Since", FUTURE));
+			assertThat(sinceNow.getStatus()).as(url).isEqualTo(200);
+		}
+
+		String before = perform(get("/student/results").with(user(student.getEmail()).roles("STUDENT"))).getHeader("ETag");
+		saveMark(student, seedSubject("Etag Zoology"), 71);
+		MockHttpServletResponse changed = perform(get("/student/results").with(user(student.getEmail()).roles("STUDENT"))
+				.header("If-None-Match", before));
+		assertThat(changed.getStatus()).isEqualTo(200);
+		assertThat(changed.getContentAsString()).contains("Etag Zoology");
+	}
+
+	@Test
+	void oneStudentsValidatorsNeverMatchAnotherStudentsPage() throws Exception {
+		Student first = seedStudent("etag-first@srms.test", "ETAG-4");
+		Student second = seedStudent("etag-second@srms.test", "ETAG-5");
+
+		// Same URLs, one browser: each student sends the other's validators
+		for (String url : List.of("/student/results", "/student/results/pdf")) {
+			String firstEtag = perform(get(url).with(user(first.getEmail()).roles("STUDENT"))).getHeader("ETag");
+			String secondEtag = perform(get(url).with(user(second.getEmail()).roles("STUDENT"))).getHeader("ETag");
+			assertThat(firstEtag).as(url).isNotEqualTo(secondEtag);
+
+			MockHttpServletResponse asSecond = perform(get(url).with(user(second.getEmail()).roles("STUDENT"))
+					.header("If-None-Match", firstEtag)
+					.header("If-Modified-Since", FUTURE));
+			assertThat(asSecond.getStatus()).as(url).isEqualTo(200);
+			MockHttpServletResponse asFirst = perform(get(url).with(user(first.getEmail()).roles("STUDENT"))
+					.header("If-None-Match", secondEtag)
+					.header("If-Modified-Since", FUTURE));
+			assertThat(asFirst.getStatus()).as(url).isEqualTo(200);
+		}
+		assertThat(perform(get("/student/results").with(user(second.getEmail()).roles("STUDENT"))).getContentAsString())
+				.contains("ETAG-5").doesNotContain("ETAG-4");
+	}
+
+	@Test
+	void adminResultsPageIsNotModifiedUntilAnyStudentChanges() throws Exception {
+		String etag = perform(get("/admin/results").with(user("admin").roles("ADMIN"))).getHeader("ETag");
+		assertThat(perform(get("/admin/results").with(user("admin").roles("ADMIN")).header("If-None-Match", etag))
+				.getStatus()).isEqualTo(304);
+
+		seedStudent("etag-newcomer@srms.test", "ETAG-2");
+
+		assertThat(perform(get("/admin/results").with(user("admin").roles("ADMIN")).header("If-None-Match", etag))
+				.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void versionsBumpOnSaveMarkUpdateStudentAndDelete() throws Exception {
+		Student student = seedStudent("etag-versions@srms.test", "ETAG-3");
+		Subject subject = seedSubject("Etag Geology");
+
+		long created = versions.current(student.getId());
+		perform(post("/admin/marks/save").with(csrf()).with(user("admin").roles("ADMIN"))
+				.param("student.id", student.getId().toString())
+				.param("subject.id", subject.getId().toString())
+				.param("marks", "64"));
+		long marked = versions.current(student.getId());
+		assertThat(marked).isGreaterThan(created);
+
+		perform(post("/admin/students/update").with(csrf()).with(user("admin").roles("ADMIN"))
+				.param("id", student.getId().toString())
+				.param("name", "Etag Renamed")
+				.param("email", student.getEmail())
+				.param("rollNumber", student.getRollNumber()));
+		long updated = versions.current(student.getId());
+		assertThat(updated).isGreaterThan(marked);
+
+		MockHttpServletResponse deleted = perform(get("/admin/students/delete/" + student.getId())
+				.with(user("admin").roles("ADMIN")));
+		assertThat(deleted.getStatus()).isEqualTo(302);
+		assertThat(versions.current(student.getId())).isGreaterThan(updated);
+		assertThat(studentRepository.findById(student.getId())).isEmpty();
+		assertThat(userRepository.findByUsername(student.getEmail())).isNull();
+	}
+
+	private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+		return mockMvc.perform(request).andReturn().getResponse();
+	}
+
+	private void saveMark(Student student, Subject subject, int marks) {
+		Mark mark = new Mark();
+		mark.setStudent(student);
+		mark.setSubject(subject);
+		mark.setMarks(marks);
+		markService.save(mark);
+	}
+
+	private Subject seedSubject(String name) {
+		Subject subject = new Subject();
+		subject.setName(name);
+		return subjectRepository.save(subject);
+	}
+
+	private Student seedStudent(String email, String rollNumber) {
+		User user = new User();
+		user.setUsername(email);
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+
+		Student student = new Student();
+		student.setName("Etag Student");
+		student.setEmail(email);
+		student.setRollNumber(rollNumber);
+		student.setUser(user);
+		studentRepository.save(student);
+		eventPublisher.publishEvent(StudentDataChangedEvent.created(List.of(student.getId())));
+		return student;
+	}
+}
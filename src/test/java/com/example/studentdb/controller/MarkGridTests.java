@@ -0,0 +1,193 @@
+package com.example.studentdb.controller;
+
+import com.example.studentdb.dto.MarkScore;
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.MarkRepository;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.repository.UserRepository;
+import com.example.studentdb.service.MarkService;
+import com.example.studentdb.service.StudentDataVersions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MarkGridTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private MarkRepository markRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	@Autowired
+	private StudentDataVersions versions;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void onePostInsertsNewMarksAndUpdatesExistingOnes() throws Exception {
+		Subject subject = seedSubject("Grid Optics");
+		Student marked = seedStudent("grid-marked@srms.test", "GRID-1");
+		Student unmarked = seedStudent("grid-unmarked@srms.test", "GRID-2");
+		Student skipped = seedStudent("grid-skipped@srms.test", "GRID-3");
+		saveMark(marked, subject, 40);
+		saveMark(skipped, subject, 33);
+		long versionBefore = versions.current(marked.getId());
+
+		MockHttpServletResponse saved = perform(post("/admin/marks/grid").with(csrf()).with(user("admin").roles("ADMIN"))
+				.param("subjectId", subject.getId().toString())
+				.param("marks[" + marked.getId() + "]", "90")
+				.param("marks[" + unmarked.getId() + "]", "70")
+				.param("marks[" + skipped.getId() + "]", ""));
+		assertThat(saved.getStatus()).isEqualTo(302);
+		assertThat(saved.getRedirectedUrl()).contains("saved=2");
+
+		assertThat(scores(subject, marked, unmarked, skipped))
+				.containsEntry(marked.getId(), 90)
+				.containsEntry(unmarked.getId(), 70)
+				.containsEntry(skipped.getId(), 33);
+		assertThat(studentRepository.findResultSummary(marked.getId()).getTotalMarks()).isEqualTo(90);
+		assertThat(studentRepository.findResultSummary(unmarked.getId()).getTotalMarks()).isEqualTo(70);
+		assertThat(versions.current(marked.getId())).isGreaterThan(versionBefore);
+
+		// Grid-written rows coexist with ids Hibernate allocates from the same sequence
+		saveMark(unmarked, seedSubject("Grid Acoustics"), 50);
+
+		String grid = perform(get("/admin/marks/grid").with(user("admin").roles("ADMIN"))
+				.param("subjectId", subject.getId().toString())
+				.param("size", "200")).getContentAsString();
+		assertThat(grid).contains("GRID-1").contains("value=\"90\"").contains("value=\"70\"");
+	}
+
+	@Test
+	void anOutOfRangeMarkSavesNothing() throws Exception {
+		Subject subject = seedSubject("Grid Mechanics");
+		Student first = seedStudent("grid-first@srms.test", "GRID-4");
+		Student second = seedStudent("grid-second@srms.test", "GRID-5");
+
+		MockHttpServletResponse rejected = perform(post("/admin/marks/grid").with(csrf()).with(user("admin").roles("ADMIN"))
+				.param("subjectId", subject.getId().toString())
+				.param("marks[" + first.getId() + "]", "70")
+				.param("marks[" + second.getId() + "]", "101"));
+		assertThat(rejected.getStatus()).isEqualTo(200);
+		assertThat(rejected.getContentAsString()).contains("Marks must be between 0 and 100: 101");
+		assertThat(scores(subject, first, second)).isEmpty();
+	}
+
+	@Test
+	void malformedCellNamesAreIgnored() throws Exception {
+		Subject subject = seedSubject("Grid Thermodynamics");
+		Student student = seedStudent("grid-malformed@srms.test", "GRID-6");
+
+		MockHttpServletResponse saved = perform(post("/admin/marks/grid").with(csrf()).with(user("admin").roles("ADMIN"))
+				.param("subjectId", subject.getId().toString())
+				.param("marks[" + student.getId() + "]", "58")
+				.param("marks[abc]", "40")
+				.param("marks[]", "40"));
+		assertThat(saved.getStatus()).isEqualTo(302);
+		assertThat(saved.getRedirectedUrl()).contains("saved=1");
+		assertThat(scores(subject, student)).containsExactly(Map.entry(student.getId(), 58));
+	}
+
+	@Test
+	void unknownStudentOrSubjectSavesNothing() throws Exception {
+		Subject subject = seedSubject("Grid Electrostatics");
+		Student student = seedStudent("grid-unknown@srms.test", "GRID-7");
+
+		MockHttpServletResponse unknownStudent = perform(post("/admin/marks/grid").with(csrf())
+				.with(user("admin").roles("ADMIN"))
+				.param("subjectId", subject.getId().toString())
+				.param("marks[" + student.getId() + "]", "61")
+				.param("marks[999999999]", "62"));
+		assertThat(unknownStudent.getStatus()).isEqualTo(200);
+		assertThat(unknownStudent.getContentAsString()).contains("Unknown student: 999999999");
+		assertThat(scores(subject, student)).isEmpty();
+
+		MockHttpServletResponse unknownSubject = perform(post("/admin/marks/grid").with(csrf())
+				.with(user("admin").roles("ADMIN"))
+				.param("subjectId", "999999999")
+				.param("marks[" + student.getId() + "]", "61"));
+		assertThat(unknownSubject.getStatus()).isEqualTo(200);
+		assertThat(unknownSubject.getContentAsString()).contains("Unknown subject: 999999999");
+		assertThat(markRepository.findScores(List.of(student.getId()))).isEmpty();
+	}
+
+	private Map<Long, Integer> scores(Subject subject, Student... students) {
+		List<Long> studentIds = Arrays.stream(students).map(Student::getId).toList();
+		return markRepository.findScores(subject.getId(), studentIds).stream()
+				.collect(Collectors.toMap(MarkScore::getStudentId, MarkScore::getMarks));
+	}
+
+	private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+		return mockMvc.perform(request).andReturn().getResponse();
+	}
+
+	private void saveMark(Student student, Subject subject, int marks) {
+		Mark mark = new Mark();
+		mark.setStudent(student);
+		mark.setSubject(subject);
+		mark.setMarks(marks);
+		markService.save(mark);
+	}
+
+	private Subject seedSubject(String name) {
+		Subject subject = new Subject();
+		subject.setName(name);
+		return subjectRepository.save(subject);
+	}
+
+	private Student seedStudent(String email, String rollNumber) {
+		User user = new User();
+		user.setUsername(email);
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+
+		Student student = new Student();
+		student.setName("Grid Student");
+		student.setEmail(email);
+		student.setRollNumber(rollNumber);
+		student.setUser(user);
+		studentRepository.save(student);
+		eventPublisher.publishEvent(StudentDataChangedEvent.created(List.of(student.getId())));
+		return student;
+	}
+}
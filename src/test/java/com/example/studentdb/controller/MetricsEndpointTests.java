@@ -0,0 +1,123 @@
+package com.example.studentdb.controller;
+
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.repository.UserRepository;
+import com.example.studentdb.service.MarkService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// A real server, so the actuator runs on its own (random) management port as in production
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsEndpointTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@LocalServerPort
+	private int port;
+
+	@LocalManagementPort
+	private int managementPort;
+
+	@Test
+	void prometheusScrapeHasRequestPdfAndPoolMetrics() throws Exception {
+		String username = seedStudent();
+		mockMvc.perform(get("/admin/students").with(user("admin").roles("ADMIN"))).andExpect(status().isOk());
+		mockMvc.perform(get("/student/results/pdf").with(user(username).roles("STUDENT"))).andExpect(status().isOk());
+
+		ResponseEntity<String> response = restTemplate.getForEntity(
+				"http://127.0.0.1:" + managementPort + "/actuator/prometheus", String.class);
+		assertThat(response.getStatusCode().value()).isEqualTo(200);
+		String scrape = response.getBody();
+
+		assertThat(scrape)
+				.contains("http_server_requests_seconds_bucket{")
+				.contains("srms_request_sql_statements_count{method=\"GET\",uri=\"/admin/students\"} 1")
+				.contains("srms_request_entity_loads_count{method=\"GET\",uri=\"/student/results/pdf\"} 1")
+				.contains("srms_pdf_render_seconds_count")
+				.contains("srms_pdf_size_bytes_bucket{")
+				.contains("hikaricp_connections_active");
+	}
+
+	@Test
+	void actuatorIsNotServedOnTheApplicationPort() {
+		// What a reverse proxy on the same host sends: loopback connection, outside client in the header
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-Forwarded-For", "203.0.113.7");
+		for (String path : List.of("/actuator/prometheus", "/actuator/health")) {
+			ResponseEntity<String> response = restTemplate.exchange("http://127.0.0.1:" + port + path,
+					HttpMethod.GET, new HttpEntity<>(headers), String.class);
+			// Unmapped there, so it ends on the login page rather than the metrics or the health status
+			assertThat(response.getBody()).as(path).doesNotContain("# TYPE").doesNotContain("\"status\"");
+			assertThat(response.getBody()).as(path).contains("Login");
+		}
+	}
+
+	private String seedStudent() {
+		User user = new User();
+		user.setUsername("metrics-student@srms.test");
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+
+		Student student = new Student();
+		student.setName("Metrics Student");
+		student.setEmail(user.getUsername());
+		student.setRollNumber("MET-1");
+		student.setUser(user);
+		studentRepository.save(student);
+
+		Subject subject = new Subject();
+		subject.setName("Metrics Maths");
+		subjectRepository.save(subject);
+
+		Mark mark = new Mark();
+		mark.setStudent(student);
+		mark.setSubject(subject);
+		mark.setMarks(72);
+		markService.save(mark);
+		return user.getUsername();
+	}
+}
@@ -0,0 +1,236 @@
+package com.example.studentdb.controller;
+
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.repository.UserRepository;
+import com.example.studentdb.service.MarkService;
+import com.example.studentdb.service.StudentSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the number of SQL statements each page may run. The bounds are fixed,
+ * so an N+1 regression (one extra select per student or mark) fails the build.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryCountGuardTests {
+
+	private static final int STUDENTS = 30;
+	private static final String STUDENT_EMAIL = "guard-student-0@srms.test";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	@Autowired
+	private StudentSearchIndex studentSearchIndex;
+
+	private Statistics statistics;
+
+	@BeforeAll
+	void seed() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		List<Subject> subjects = new ArrayList<>();
+		for (String name : List.of("Guard Maths", "Guard Physics", "Guard Chemistry")) {
+			Subject subject = new Subject();
+			subject.setName(name);
+			subjects.add(subjectRepository.save(subject));
+		}
+
+		for (int i = 0; i < STUDENTS; i++) {
+			User user = new User();
+			user.setUsername("guard-student-" + i + "@srms.test");
+			user.setPassword("{noop}secret");
+			user.setRole("STUDENT");
+			userRepository.save(user);
+
+			Student student = new Student();
+			student.setName("Guard Student " + i);
+			student.setEmail(user.getUsername());
+			student.setRollNumber("GRD-" + i);
+			student.setUser(user);
+			studentRepository.save(student);
+
+			for (Subject subject : subjects) {
+				Mark mark = new Mark();
+				mark.setStudent(student);
+				mark.setSubject(subject);
+				mark.setMarks(30 + (i * 7 + subject.getName().length()) % 70);
+				markService.save(mark);
+			}
+		}
+		// Students were saved straight through the repositories, which publish no change events
+		studentSearchIndex.rebuild();
+	}
+
+	@Test
+	void adminStudentsListIsConstant() throws Exception {
+		assertStatementsAtMost(admin(get("/admin/students")), 1);
+	}
+
+	@Test
+	void adminStudentsJsonIsOneStreamedSelectWithoutCredentials() throws Exception {
+		statistics.clear();
+		String json = mockMvc.perform(admin(get("/admin/students/json")))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(json).contains("\"rollNumber\":\"GRD-0\"").doesNotContain("password").doesNotContain("marks");
+	}
+
+	@Test
+	void adminStudentsJsonKeysetPagesFollowTheLinkHeader() throws Exception {
+		String next = "/admin/students/json?after=0&limit=12";
+		int pages = 0;
+		int rows = 0;
+		while (next != null) {
+			statistics.clear();
+			MockHttpServletResponse response = mockMvc.perform(admin(get(next)))
+					.andExpect(status().isOk())
+					.andReturn().getResponse();
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+			rows += response.getContentAsString().split("\"id\":").length - 1;
+			String link = response.getHeader("Link");
+			next = link != null ? link.substring(1, link.indexOf('>')) : null;
+			pages++;
+		}
+		assertThat(rows).isGreaterThanOrEqualTo(STUDENTS);
+		assertThat(pages).isEqualTo(rows / 12 + 1);
+	}
+
+	@Test
+	void adminSubjectsListIsConstant() throws Exception {
+		// Cold second-level cache: the single query that fills it
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+		assertStatementsAtMost(admin(get("/admin/subjects")), 1);
+	}
+
+	@Test
+	void adminSubjectsListIsCachedOnceWarm() throws Exception {
+		mockMvc.perform(admin(get("/admin/subjects"))).andExpect(status().isOk());
+		statistics.clear();
+		mockMvc.perform(admin(get("/admin/subjects"))).andExpect(status().isOk());
+		assertThat(statistics.getPrepareStatementCount()).as("SQL statements executed").isZero();
+	}
+
+	@Test
+	void adminMarksListIsConstant() throws Exception {
+		assertStatementsAtMost(admin(get("/admin/marks")), 1);
+	}
+
+	@Test
+	void adminAddMarkFormLoadsNoStudentsOrSubjects() throws Exception {
+		statistics.clear();
+		mockMvc.perform(admin(get("/admin/marks/add"))).andExpect(status().isOk());
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	void addMarkPickersReturnALimitedPrefixFirstList() throws Exception {
+		String students = mockMvc.perform(admin(get("/admin/students/suggest?q=GRD-1&limit=3")))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		assertThat(students.split("\"rollNumber\"", -1)).hasSize(4);
+		assertThat(students).startsWith("[{\"id\":").contains("\"rollNumber\":\"GRD-1\"");
+
+		subjectRepository.findAll();
+		statistics.clear();
+		String subjects = mockMvc.perform(admin(get("/admin/subjects/suggest?q=guard p&limit=5")))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		assertThat(subjects).contains("\"name\":\"Guard Physics\"").doesNotContain("Guard Maths");
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	void adminResultsPageIsConstant() throws Exception {
+		// summary page + count + subject-wise marks of the visible rows
+		assertStatementsAtMost(admin(get("/admin/results").param("size", "25")), 3);
+	}
+
+	@Test
+	void adminResultsSearchIsConstant() throws Exception {
+		// keyword matches come from the in-memory index: summaries of the page + subject-wise marks
+		assertStatementsAtMost(admin(get("/admin/results").param("keyword", "guard")), 2);
+	}
+
+	@Test
+	void studentDashboardIsConstant() throws Exception {
+		assertStatementsAtMost(student(get("/student/dashboard")), 1);
+	}
+
+	@Test
+	void studentResultsIsConstant() throws Exception {
+		assertStatementsAtMost(student(get("/student/results")), 3);
+	}
+
+	@Test
+	void studentResultPdfIsConstantAndCached() throws Exception {
+		assertStatementsAtMost(student(get("/student/results/pdf")), 3);
+
+		// Unchanged data: served from the PDF cache without touching the database
+		statistics.clear();
+		mockMvc.perform(student(get("/student/results/pdf"))).andExpect(status().isOk());
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	private void assertStatementsAtMost(RequestBuilder request, long maxStatements) throws Exception {
+		statistics.clear();
+		mockMvc.perform(request).andExpect(status().isOk());
+		assertThat(statistics.getPrepareStatementCount())
+				.as("SQL statements executed")
+				.isBetween(1L, maxStatements);
+	}
+
+	private RequestBuilder admin(MockHttpServletRequestBuilder request) {
+		return request.with(user("admin").roles("ADMIN"));
+	}
+
+	private RequestBuilder student(MockHttpServletRequestBuilder request) {
+		return request.with(user(STUDENT_EMAIL).roles("STUDENT"));
+	}
+}
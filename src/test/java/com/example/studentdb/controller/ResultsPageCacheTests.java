@@ -0,0 +1,125 @@
+package com.example.studentdb.controller;
+
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.repository.UserRepository;
+import com.example.studentdb.service.MarkService;
+import com.example.studentdb.service.ResultsPageCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "srms.results-page-cache.max-size=1MB")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResultsPageCacheTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	@Autowired
+	private ResultsPageCache resultsPageCache;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void repeatedPageIsServedWithoutQueriesUntilAMarkChanges() throws Exception {
+		Student student = seedStudent("page-cache-student@srms.test", "PCACHE-1", "Pagecache Student");
+		Subject subject = new Subject();
+		subject.setName("Page Cache Music");
+		subjectRepository.save(subject);
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		String first = results("/admin/results?keyword=Pagecache");
+		statistics.clear();
+		String second = results("/admin/results?keyword=Pagecache");
+
+		assertThat(second).isEqualTo(first).contains("📊 Student Results").contains("Pagecache Student");
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(resultsPageCache.stats().getHits()).isPositive();
+
+		Mark mark = new Mark();
+		mark.setStudent(student);
+		mark.setSubject(subject);
+		mark.setMarks(88);
+		markService.save(mark);
+
+		assertThat(results("/admin/results?keyword=Pagecache")).contains("Page Cache Music").isNotEqualTo(first);
+	}
+
+	@Test
+	void renamedStudentDropsOutOfACachedSearch() throws Exception {
+		Student student = seedStudent("page-cache-rename@srms.test", "PCACHE-2", "Renameme Student");
+		assertThat(results("/admin/results?keyword=Renameme")).contains("PCACHE-2");
+
+		mockMvc.perform(post("/admin/students/update").with(csrf()).with(user("admin").roles("ADMIN"))
+						.param("id", student.getId().toString())
+						.param("name", "Renamed Student")
+						.param("email", "page-cache-rename@srms.test")
+						.param("rollNumber", "PCACHE-2"))
+				.andExpect(status().is3xxRedirection());
+
+		assertThat(results("/admin/results?keyword=Renameme")).doesNotContain("PCACHE-2");
+	}
+
+	private String results(String url) throws Exception {
+		return mockMvc.perform(get(url).with(user("admin").roles("ADMIN")))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+	}
+
+	private Student seedStudent(String email, String rollNumber, String name) {
+		User user = new User();
+		user.setUsername(email);
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+
+		Student student = new Student();
+		student.setName(name);
+		student.setEmail(email);
+		student.setRollNumber(rollNumber);
+		student.setUser(user);
+		studentRepository.save(student);
+		eventPublisher.publishEvent(StudentDataChangedEvent.created(List.of(student.getId())));
+		return student;
+	}
+}
@@ -0,0 +1,212 @@
+package com.example.studentdb.controller;
+
+import com.example.studentdb.dto.BulkJobStatus;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.UserRepository;
+import com.example.studentdb.service.StudentOnboardingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudentOnboardingTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private StudentOnboardingService studentOnboardingService;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	@Qualifier("passwordHashingExecutor")
+	private ThreadPoolTaskExecutor passwordHashingExecutor;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void singleSaveCreatesTheStudentWithAHashedLoginAfterTheRequestThreadIsReleased() throws Exception {
+		MvcResult started = mockMvc.perform(post("/admin/students/save").with(csrf()).with(user("admin").roles("ADMIN"))
+						.param("name", "Onboard Single")
+						.param("email", "onboard-single@srms.test")
+						.param("rollNumber", "ONB-S1"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		MockHttpServletResponse saved = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+		assertThat(saved.getStatus()).isEqualTo(302);
+		assertThat(saved.getRedirectedUrl()).isEqualTo("/admin/students");
+
+		User login = userRepository.findByUsername("onboard-single@srms.test");
+		assertThat(login.getRole()).isEqualTo("STUDENT");
+		assertThat(passwordEncoder.matches(StudentOnboardingService.DEFAULT_PASSWORD, login.getPassword())).isTrue();
+		assertThat(studentRepository.findExistingRollNumbers(List.of("ONB-S1"))).containsExactly("ONB-S1");
+	}
+
+	@Test
+	void singleSaveIsTurnedAwayWithRetryAfterWhenTheHashingQueueIsFull() throws Exception {
+		CountDownLatch hashingBusy = new CountDownLatch(1);
+		try {
+			fillUntilRejected(hashingBusy);
+			// Idle workers may only now take their first blocker off the queue: wait for them, then top up
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (passwordHashingExecutor.getActiveCount() < passwordHashingExecutor.getMaxPoolSize()
+					&& System.nanoTime() < deadline) {
+				Thread.onSpinWait();
+			}
+			fillUntilRejected(hashingBusy);
+
+			MvcResult started = mockMvc.perform(post("/admin/students/save").with(csrf())
+							.with(user("admin").roles("ADMIN"))
+							.param("name", "Onboard Busy")
+							.param("email", "onboard-busy@srms.test")
+							.param("rollNumber", "ONB-B1"))
+					.andReturn();
+			MockHttpServletResponse busy = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+			assertThat(busy.getStatus()).isEqualTo(503);
+			assertThat(busy.getHeader("Retry-After")).isEqualTo("30");
+			assertThat(busy.getContentAsString()).contains("busy").contains("value=\"ONB-B1\"");
+			assertThat(userRepository.findByUsername("onboard-busy@srms.test")).isNull();
+		} finally {
+			hashingBusy.countDown();
+		}
+	}
+
+	@Test
+	void bulkJsonCreatesTheValidRowsAndReportsTheRest() throws Exception {
+		seedStudent("onboard-existing@srms.test", "ONB-E1");
+
+		MockHttpServletResponse accepted = perform(post("/admin/students/bulk").with(csrf())
+				.with(user("admin").roles("ADMIN"))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+						[{"name":"Onboard One","email":"onboard-one@srms.test","rollNumber":"ONB-1"},
+						 {"name":"Onboard Two","email":"onboard-two@srms.test","rollNumber":"ONB-2"},
+						 {"name":"Onboard Again","email":"onboard-one@srms.test","rollNumber":"ONB-3"},
+						 {"name":"","email":"onboard-nameless@srms.test","rollNumber":"ONB-4"},
+						 {"name":"Onboard Taken","email":"onboard-taken@srms.test","rollNumber":"ONB-E1"}]
+						"""));
+		assertThat(accepted.getStatus()).isEqualTo(202);
+		String location = accepted.getHeader("Location");
+		awaitFinished(location);
+
+		mockMvc.perform(get(location).with(user("admin").roles("ADMIN")))
+				.andExpect(jsonPath("$.state").value("COMPLETED"))
+				.andExpect(jsonPath("$.total").value(5))
+				.andExpect(jsonPath("$.succeeded").value(2))
+				.andExpect(jsonPath("$.errors[0].line").value(3))
+				.andExpect(jsonPath("$.errors[0].message").value("A user with email onboard-one@srms.test already exists"))
+				.andExpect(jsonPath("$.errors[1].message").value("Name is required"))
+				.andExpect(jsonPath("$.errors[2].message").value("Roll number ONB-E1 already exists"));
+
+		User one = userRepository.findByUsername("onboard-one@srms.test");
+		assertThat(passwordEncoder.matches(StudentOnboardingService.DEFAULT_PASSWORD, one.getPassword())).isTrue();
+		assertThat(studentRepository.findExistingRollNumbers(List.of("ONB-1", "ONB-2", "ONB-3", "ONB-4")))
+				.containsExactlyInAnyOrder("ONB-1", "ONB-2");
+	}
+
+	@Test
+	void bulkCsvSkipsTheHeaderRow() throws Exception {
+		MockMultipartFile csv = new MockMultipartFile("file", "students.csv", "text/csv", """
+				name,email,rollNumber
+				Onboard Csv,onboard-csv@srms.test,ONB-C1
+				Onboard Csv Two,onboard-csv-two@srms.test,ONB-C2
+				""".getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletResponse accepted = perform(multipart("/admin/students/bulk").file(csv).with(csrf())
+				.with(user("admin").roles("ADMIN")));
+		assertThat(accepted.getStatus()).isEqualTo(202);
+		BulkJobStatus job = awaitFinished(accepted.getHeader("Location"));
+
+		assertThat(job.getTotal()).isEqualTo(2);
+		assertThat(job.getSucceeded()).isEqualTo(2);
+		assertThat(userRepository.findByUsername("onboard-csv-two@srms.test")).isNotNull();
+	}
+
+	private BulkJobStatus awaitFinished(String location) throws InterruptedException {
+		String jobId = location.substring(location.lastIndexOf('/') + 1);
+		BulkJobStatus job = studentOnboardingService.findJob(jobId).orElseThrow();
+		for (int i = 0; i < 200 && !job.isFinished(); i++) {
+			Thread.sleep(50);
+		}
+		assertThat(job.isFinished()).isTrue();
+		return job;
+	}
+
+	private void fillUntilRejected(CountDownLatch hashingBusy) {
+		try {
+			while (true) {
+				passwordHashingExecutor.execute(() -> {
+					try {
+						hashingBusy.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+		} catch (TaskRejectedException full) {
+			// expected once the queue is full
+		}
+	}
+
+	private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+		return mockMvc.perform(request).andReturn().getResponse();
+	}
+
+	private void seedStudent(String email, String rollNumber) {
+		User user = new User();
+		user.setUsername(email);
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+
+		Student student = new Student();
+		student.setName("Onboard Student");
+		student.setEmail(email);
+		student.setRollNumber(rollNumber);
+		student.setUser(user);
+		studentRepository.save(student);
+		eventPublisher.publishEvent(StudentDataChangedEvent.created(List.of(student.getId())));
+	}
+}
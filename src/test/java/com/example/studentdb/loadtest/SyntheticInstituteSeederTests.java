@@ -0,0 +1,73 @@
+package com.example.studentdb.loadtest;
+
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.service.MarkService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"srms.loadtest.students=2500", "srms.loadtest.subjects=4", "srms.loadtest.drive=false"})
+@ActiveProfiles({"test", "loadtest"})
+class SyntheticInstituteSeederTests {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	@Test
+	void seedsEveryStudentWithALoginAndAMarkPerSubject() {
+		assertThat(count("select count(*) from students where roll_number like 'LT-%'")).isEqualTo(2500);
+		assertThat(count("select count(*) from marks m join subjects j on j.id = m.subject_id"
+				+ " where j.name like 'Load Subject %'")).isEqualTo(2500 * 4);
+		assertThat(count("select count(*) from student_result_summary r join students s on s.id = r.student_id"
+				+ " where s.roll_number like 'LT-%'")).isEqualTo(2500);
+
+		// One hash shared by every user, and it matches the configured password
+		assertThat(count("select count(distinct password) from users where username like 'lt-student-%'")).isEqualTo(1);
+		String hash = jdbcTemplate.queryForObject(
+				"select password from users where username = 'lt-student-000001@srms.test'", String.class);
+		assertThat(passwordEncoder.matches("loadtest123", hash)).isTrue();
+	}
+
+	@Test
+	void markIdsLeaveTheSequenceUsableByHibernate() {
+		Subject subject = new Subject();
+		subject.setName("Seeder Extra Subject");
+		subjectRepository.save(subject);
+		Student student = studentRepository.findAll().stream()
+				.filter(s -> "LT-000007".equals(s.getRollNumber()))
+				.findFirst().orElseThrow();
+
+		Mark mark = new Mark();
+		mark.setStudent(student);
+		mark.setSubject(subject);
+		mark.setMarks(50);
+		markService.save(mark);
+
+		assertThat(count("select count(*) from marks where id = " + mark.getId())).isEqualTo(1);
+	}
+
+	private long count(String sql) {
+		return jdbcTemplate.queryForObject(sql, Long.class);
+	}
+}
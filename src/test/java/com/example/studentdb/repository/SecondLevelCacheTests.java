@@ -0,0 +1,127 @@
+package com.example.studentdb.repository;
+
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.service.MarkService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Subjects and users are served from the second-level cache once loaded, so repeating
+ * a lookup runs no SQL until Hibernate itself writes to the table.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTests {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void statistics() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void repeatedSubjectLookupsDoNotHitTheDatabase() {
+		Subject subject = new Subject();
+		subject.setName("Cached Geography");
+		subjectRepository.save(subject);
+		subjectRepository.findAll();
+
+		long before = statistics.getPrepareStatementCount();
+		for (int i = 0; i < 5; i++) {
+			assertThat(subjectRepository.findById(subject.getId())).isPresent();
+			assertThat(subjectRepository.findAll()).extracting(Subject::getName).contains("Cached Geography");
+		}
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(before);
+		assertThat(statistics.getDomainDataRegionStatistics("subjects").getHitCount()).isPositive();
+		assertThat(statistics.getQueryRegionStatistics("subject-queries").getHitCount()).isPositive();
+	}
+
+	@Test
+	void newSubjectInvalidatesTheCachedList() {
+		List<Subject> before = subjectRepository.findAll();
+
+		Subject subject = new Subject();
+		subject.setName("Cached Astronomy");
+		subjectRepository.save(subject);
+
+		assertThat(subjectRepository.findAll()).hasSize(before.size() + 1);
+	}
+
+	@Test
+	void repeatedUserLookupsDoNotHitTheDatabase() {
+		User user = new User();
+		user.setUsername("cached-user@srms.test");
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+		userRepository.findByUsername(user.getUsername());
+
+		long before = statistics.getPrepareStatementCount();
+		for (int i = 0; i < 5; i++) {
+			assertThat(userRepository.findByUsername(user.getUsername()).getId()).isEqualTo(user.getId());
+		}
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(before);
+	}
+
+	@Test
+	void savingAMarkKeepsTheSubjectCacheWarm() {
+		User user = new User();
+		user.setUsername("cached-student@srms.test");
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+		Student student = new Student();
+		student.setName("Cached Student");
+		student.setEmail(user.getUsername());
+		student.setRollNumber("CACHE-1");
+		student.setUser(user);
+		studentRepository.save(student);
+		Subject subject = new Subject();
+		subject.setName("Cached History");
+		subjectRepository.save(subject);
+		subjectRepository.findAll();
+
+		// The summary refresh behind this is native SQL on student_result_summary only
+		Mark mark = new Mark();
+		mark.setStudent(student);
+		mark.setSubject(subject);
+		mark.setMarks(64);
+		markService.save(mark);
+
+		long before = statistics.getPrepareStatementCount();
+		subjectRepository.findAll();
+		subjectRepository.findById(subject.getId());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(before);
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.studentdb.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedUserCacheTests {
+
+	@Test
+	void erasingCredentialsOfAReturnedUserDoesNotReachTheCache() {
+		BoundedUserCache cache = new BoundedUserCache(10, Duration.ofMinutes(10));
+		cache.putUserInCache(user("a@srms.test"));
+
+		User returned = (User) cache.getUserFromCache("a@srms.test");
+		returned.eraseCredentials();
+
+		assertThat(cache.getUserFromCache("a@srms.test").getPassword()).isEqualTo("{noop}secret");
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedBeyondMaxSize() {
+		BoundedUserCache cache = new BoundedUserCache(2, Duration.ofMinutes(10));
+		cache.putUserInCache(user("a@srms.test"));
+		cache.putUserInCache(user("b@srms.test"));
+		cache.getUserFromCache("a@srms.test");
+		cache.putUserInCache(user("c@srms.test"));
+
+		assertThat(cache.getUserFromCache("a@srms.test")).isNotNull();
+		assertThat(cache.getUserFromCache("b@srms.test")).isNull();
+		assertThat(cache.getUserFromCache("c@srms.test")).isNotNull();
+		assertThat(cache.stats().getEvictions()).isEqualTo(1);
+	}
+
+	@Test
+	void entriesExpireAfterTtlAndCanBeRemoved() throws Exception {
+		BoundedUserCache cache = new BoundedUserCache(10, Duration.ofMillis(1));
+		cache.putUserInCache(user("a@srms.test"));
+		Thread.sleep(5);
+		assertThat(cache.getUserFromCache("a@srms.test")).isNull();
+
+		BoundedUserCache longLived = new BoundedUserCache(10, Duration.ofMinutes(10));
+		longLived.putUserInCache(user("b@srms.test"));
+		longLived.removeUserFromCache("b@srms.test");
+		assertThat(longLived.getUserFromCache("b@srms.test")).isNull();
+	}
+
+	private static UserDetails user(String username) {
+		return User.withUsername(username).password("{noop}secret").roles("STUDENT").build();
+	}
+}
@@ -0,0 +1,139 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.BulkJobStatus;
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CohortArchiveServiceTests {
+
+	@Autowired
+	private CohortArchiveService cohortArchiveService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void prefixCohortIsCopiedToTheArchiveAndDeleted() throws Exception {
+		Subject subject = seedSubject("Archive Statics");
+		Student first = seedStudent("archive-first@srms.test", "ARC_2020-1");
+		Student second = seedStudent("archive-second@srms.test", "ARC_2020-2");
+		// '_' must match literally, not as a LIKE wildcard
+		Student lookalike = seedStudent("archive-lookalike@srms.test", "ARCX2020-3");
+		saveMark(first, subject, 81);
+		saveMark(second, subject, 64);
+		saveMark(lookalike, subject, 50);
+		// Warm the users cache regions, which the bulk delete must not leave stale
+		assertThat(userRepository.findByUsername(first.getEmail())).isNotNull();
+
+		BulkJobStatus job = awaitFinished(cohortArchiveService.startArchive("ARC_2020-", null));
+
+		assertThat(job.getState()).isEqualTo(BulkJobStatus.State.COMPLETED);
+		assertThat(job.getTotal()).isEqualTo(2);
+		assertThat(job.getSucceeded()).isEqualTo(2);
+		assertThat(studentRepository.findExistingIds(List.of(first.getId(), second.getId(), lookalike.getId())))
+				.containsExactly(lookalike.getId());
+		assertThat(userRepository.findByUsername(first.getEmail())).isNull();
+		assertThat(count("select count(*) from marks where student_id in (?, ?)", first.getId(), second.getId())).isZero();
+		assertThat(count("select count(*) from student_result_summary where student_id = ?", first.getId())).isZero();
+
+		assertThat(count("select count(*) from archived_students where roll_number like 'ARC\\_2020-%' escape '\\'"))
+				.isEqualTo(2);
+		assertThat(count("select count(*) from archived_users where username = ?", second.getEmail())).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject(
+				"select subject_name from archived_marks where student_id = ?", String.class, first.getId()))
+				.isEqualTo("Archive Statics");
+	}
+
+	@Test
+	void idCohortSkipsUnknownIdsAndNeedsExactlyOneSelector() throws Exception {
+		Student student = seedStudent("archive-by-id@srms.test", "ARCID-1");
+
+		BulkJobStatus job = awaitFinished(cohortArchiveService.startArchive(null, List.of(student.getId(), -1L)));
+
+		assertThat(job.getTotal()).isEqualTo(1);
+		assertThat(job.getSucceeded()).isEqualTo(1);
+		assertThat(studentRepository.findById(student.getId())).isEmpty();
+
+		assertThatThrownBy(() -> cohortArchiveService.startArchive(null, List.of()))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> cohortArchiveService.startArchive("ARCID-", List.of(student.getId())))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private BulkJobStatus awaitFinished(BulkJobStatus job) throws InterruptedException {
+		for (int i = 0; i < 200 && !job.isFinished(); i++) {
+			Thread.sleep(50);
+		}
+		assertThat(job.isFinished()).isTrue();
+		return job;
+	}
+
+	private long count(String sql, Object... args) {
+		return jdbcTemplate.queryForObject(sql, Long.class, args);
+	}
+
+	private void saveMark(Student student, Subject subject, int marks) {
+		Mark mark = new Mark();
+		mark.setStudent(student);
+		mark.setSubject(subject);
+		mark.setMarks(marks);
+		markService.save(mark);
+	}
+
+	private Subject seedSubject(String name) {
+		Subject subject = new Subject();
+		subject.setName(name);
+		return subjectRepository.save(subject);
+	}
+
+	private Student seedStudent(String email, String rollNumber) {
+		User user = new User();
+		user.setUsername(email);
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+
+		Student student = new Student();
+		student.setName("Archive Student");
+		student.setEmail(email);
+		student.setRollNumber(rollNumber);
+		student.setUser(user);
+		studentRepository.save(student);
+		eventPublisher.publishEvent(StudentDataChangedEvent.created(List.of(student.getId())));
+		return student;
+	}
+}
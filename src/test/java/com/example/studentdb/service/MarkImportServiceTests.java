@@ -0,0 +1,215 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.MarkImportReport;
+import com.example.studentdb.dto.RowError;
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MarkImportServiceTests {
+
+	@Autowired
+	private MarkImportService markImportService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private MarkService markService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void everyBadRowIsReportedWithItsLineAndTheRestAreImported() throws Exception {
+		Student student = seedStudent("import-report@srms.test", "IMP-1");
+		Subject physics = seedSubject("Import Physics");
+		Subject chemistry = seedSubject("Import Chemistry");
+		seedSubject("Import Biology");
+		saveMark(student, chemistry, 50);
+
+		MarkImportReport report = importCsv("""
+				rollNumber,subject,marks
+				IMP-1, import physics ,72
+				IMP-404,Import Physics,60
+				IMP-1,Import Astrology,60
+				IMP-1,Import Biology,abc
+				IMP-1,Import Biology,101
+				IMP-1,Import Biology
+				IMP-1,Import Physics,80
+				IMP-1,Import Chemistry,90
+				""");
+
+		assertThat(report.getRowsRead()).isEqualTo(8);
+		assertThat(report.getImported()).isEqualTo(1);
+		assertThat(errorsByLine(report)).containsExactly(
+				Map.entry(3L, "Unknown roll number: IMP-404"),
+				Map.entry(4L, "Unknown subject: Import Astrology"),
+				Map.entry(5L, "Marks is not a number: abc"),
+				Map.entry(6L, "Marks must be between 0 and 100: 101"),
+				Map.entry(7L, "Expected 3 columns (rollNumber,subject,marks) but found 2"),
+				Map.entry(8L, "Marks for this student and subject already exist!"),
+				Map.entry(9L, "Marks for this student and subject already exist!"));
+
+		assertThat(marks(student)).containsOnly(Map.entry(physics.getId(), 72), Map.entry(chemistry.getId(), 50));
+		assertThat(studentRepository.findResultSummary(student.getId()).getTotalMarks()).isEqualTo(122);
+	}
+
+	@Test
+	void aChunkTheDatabaseRejectsIsRolledBackAndTheNextChunkStillImports() throws Exception {
+		int rows = MarkImportService.CHUNK_SIZE + 1;
+		Student first = seedStudent("import-chunk-first@srms.test", "IMPC-1");
+		Student last = seedStudent("import-chunk-last@srms.test", "IMPC-2");
+		Subject clash = seedSubject("Import Chunk 0");
+		StringBuilder csv = new StringBuilder();
+		for (int i = 0; i < rows - 1; i++) {
+			if (i > 0) {
+				seedSubject("Import Chunk " + i);
+			}
+			csv.append("IMPC-1,Import Chunk ").append(i).append(",60\n");
+		}
+		csv.append("IMPC-2,Import Chunk 0,70\n");
+
+		// Another admin saves the first row's mark after the import has loaded the existing pairs
+		InputStream concurrentWrite = new FilterInputStream(utf8(csv.toString())) {
+			private boolean written;
+
+			@Override
+			public int read(byte[] buffer, int offset, int length) throws IOException {
+				if (!written) {
+					written = true;
+					saveMark(first, clash, 45);
+				}
+				return super.read(buffer, offset, length);
+			}
+		};
+		MarkImportReport report = markImportService.importCsv(concurrentWrite);
+
+		assertThat(report.getRowsRead()).isEqualTo(rows);
+		assertThat(report.getImported()).isEqualTo(1);
+		// The whole first chunk is reported, line by line, and none of it was written
+		assertThat(report.getErrors()).hasSize(MarkImportService.CHUNK_SIZE);
+		assertThat(report.getErrors().get(0).getLine()).isEqualTo(1);
+		assertThat(report.getErrors().get(MarkImportService.CHUNK_SIZE - 1).getLine())
+				.isEqualTo(MarkImportService.CHUNK_SIZE);
+		assertThat(report.getErrors().get(0).getMessage()).startsWith("Batch rejected by the database");
+		assertThat(marks(first)).containsOnly(Map.entry(clash.getId(), 45));
+		assertThat(studentRepository.findResultSummary(first.getId()).getTotalMarks()).isEqualTo(45);
+
+		assertThat(marks(last)).containsOnly(Map.entry(clash.getId(), 70));
+		assertThat(studentRepository.findResultSummary(last.getId()).getTotalMarks()).isEqualTo(70);
+	}
+
+	@Test
+	void duplicateCheckTellsApartPairsWhoseIdsOnlyDifferAbove32Bits() throws Exception {
+		Student marked = seedStudent("import-wide-marked@srms.test", "IMPW-1");
+		Student other = seedStudent("import-wide-other@srms.test", "IMPW-2");
+		Subject small = seedSubject("Import Narrow");
+		saveMark(marked, small, 40);
+		// Chosen so that (other << 32) ^ wide == (marked << 32) ^ small, which a packed long key
+		// would take for the existing mark
+		long wideId = ((marked.getId() ^ other.getId()) << 32) ^ small.getId();
+		jdbcTemplate.update("insert into subjects (id, name) values (?, ?)", wideId, "Import Wide");
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+
+		MarkImportReport report = importCsv("""
+				IMPW-2,Import Wide,66
+				IMPW-1,Import Narrow,90
+				""");
+
+		assertThat(report.getImported()).isEqualTo(1);
+		assertThat(errorsByLine(report))
+				.containsExactly(Map.entry(2L, "Marks for this student and subject already exist!"));
+		assertThat(marks(other)).containsOnly(Map.entry(wideId, 66));
+	}
+
+	private MarkImportReport importCsv(String csv) throws IOException {
+		return markImportService.importCsv(utf8(csv));
+	}
+
+	private static InputStream utf8(String csv) {
+		return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Map<Long, String> errorsByLine(MarkImportReport report) {
+		return report.getErrors().stream()
+				.collect(Collectors.toMap(RowError::getLine, RowError::getMessage, (a, b) -> a, LinkedHashMap::new));
+	}
+
+	private Map<Long, Integer> marks(Student student) {
+		return jdbcTemplate.queryForList("select subject_id, marks from marks where student_id = ?", student.getId())
+				.stream()
+				.collect(Collectors.toMap(row -> ((Number) row.get("SUBJECT_ID")).longValue(),
+						row -> ((Number) row.get("MARKS")).intValue()));
+	}
+
+	private void saveMark(Student student, Subject subject, int marks) {
+		Mark mark = new Mark();
+		mark.setStudent(student);
+		mark.setSubject(subject);
+		mark.setMarks(marks);
+		markService.save(mark);
+	}
+
+	private Subject seedSubject(String name) {
+		Subject subject = new Subject();
+		subject.setName(name);
+		return subjectRepository.save(subject);
+	}
+
+	private Student seedStudent(String email, String rollNumber) {
+		User user = new User();
+		user.setUsername(email);
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+
+		Student student = new Student();
+		student.setName("Import Student");
+		student.setEmail(email);
+		student.setRollNumber(rollNumber);
+		student.setUser(user);
+		studentRepository.save(student);
+		eventPublisher.publishEvent(StudentDataChangedEvent.created(List.of(student.getId())));
+		return student;
+	}
+}
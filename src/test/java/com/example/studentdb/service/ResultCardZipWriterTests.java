@@ -0,0 +1,113 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.ResultSummary;
+import com.example.studentdb.dto.SubjectMarkDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultCardZipWriterTests {
+
+	private static final int WINDOW = 8;
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	void startExecutor() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	void stopExecutor() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void memoryStaysBoundedForLargeSyntheticCohort() throws Exception {
+		// The cohort's cards add up to twice the heap, so buffering them would fail with OOM
+		int cardSize = 1024 * 1024;
+		int students = (int) Math.max(2_000, 2 * Runtime.getRuntime().maxMemory() / cardSize);
+
+		AtomicInteger rendered = new AtomicInteger();
+		ResultCardZipWriter writer = new ResultCardZipWriter(executor, WINDOW);
+		CountingOutputStream out = new CountingOutputStream();
+
+		int written = writer.write(syntheticCohort(students), result -> {
+			rendered.incrementAndGet();
+			return new byte[cardSize];
+		}, out);
+
+		assertThat(written).isEqualTo(students);
+		assertThat(rendered).hasValue(students);
+		assertThat(writer.getPeakInFlight()).isLessThanOrEqualTo(WINDOW);
+		assertThat(out.count).isPositive();
+	}
+
+	@Test
+	void writesOneRenderedPdfPerStudentInOrder() throws Exception {
+		ResultCardPdfRenderer renderer = new ResultCardPdfRenderer();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		int written = new ResultCardZipWriter(executor, WINDOW).write(syntheticCohort(25), renderer::render, out);
+
+		assertThat(written).isEqualTo(25);
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			int index = 0;
+			for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+				assertThat(entry.getName()).isEqualTo("Result_R-" + index + ".pdf");
+				assertThat(new String(zip.readNBytes(4))).isEqualTo("%PDF");
+				index++;
+			}
+			assertThat(index).isEqualTo(25);
+		}
+	}
+
+	// Generated lazily so the test itself never holds the cohort in memory
+	private static Iterator<ResultSummary> syntheticCohort(int size) {
+		return new Iterator<>() {
+			private int next;
+
+			@Override
+			public boolean hasNext() {
+				return next < size;
+			}
+
+			@Override
+			public ResultSummary next() {
+				long id = next++;
+				ResultSummary summary = new ResultSummary(id, "Student " + id, "s" + id + "@srms.test", "R-" + id,
+						150L, 3L, 40);
+				summary.setMarks(List.of(new SubjectMarkDTO(id, 1L, "Maths", 40),
+						new SubjectMarkDTO(id, 2L, "Physics", 50), new SubjectMarkDTO(id, 3L, "Chemistry", 60)));
+				return summary;
+			}
+		};
+	}
+
+	private static class CountingOutputStream extends OutputStream {
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.PdfJobStatus;
+import com.example.studentdb.dto.ResultCardPdf;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResultPdfJobServiceTests {
+
+	private final ResultCardService resultCardService = mock(ResultCardService.class);
+	private final StudentDataVersions versions = new StudentDataVersions();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private ThreadPoolTaskExecutor executor;
+	private ResultPdfJobService service;
+
+	@BeforeEach
+	void setUp() {
+		// One worker and one queue slot
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.initialize();
+		service = new ResultPdfJobService(resultCardService, versions, mock(RankingService.class), executor);
+
+		for (long id = 1; id <= 3; id++) {
+			when(resultCardService.studentIdFor("s" + id + "@srms.test")).thenReturn(id);
+		}
+		when(resultCardService.getResultCard(any(), anyString())).thenAnswer(invocation -> {
+			release.await(10, TimeUnit.SECONDS);
+			Long studentId = invocation.getArgument(0);
+			return new ResultCardPdf(studentId, "Result_" + studentId + ".pdf", new byte[] {1, 2, 3});
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	void repeatedRequestsFromOneStudentShareTheJobUntilTheirDataChanges() {
+		PdfJobStatus first = service.submit("s1@srms.test");
+		assertThat(service.submit("s1@srms.test").getId()).isEqualTo(first.getId());
+
+		versions.onStudentDataChanged(StudentDataChangedEvent.marks(1L, 7L));
+		assertThat(service.submit("s1@srms.test").getId()).isNotEqualTo(first.getId());
+	}
+
+	@Test
+	void fullQueueIsRejectedAndLeavesNoJobBehind() {
+		service.submit("s1@srms.test"); // running
+		service.submit("s2@srms.test"); // queued
+
+		assertThatThrownBy(() -> service.submit("s3@srms.test")).isInstanceOf(TaskRejectedException.class);
+
+		// The rejected job is forgotten, so the student can submit again once there is room
+		release.countDown();
+		awaitIdle();
+		assertThat(service.submit("s3@srms.test").getState()).isNotNull();
+	}
+
+	@Test
+	void completedJobServesThePdfOnlyToItsOwner() {
+		PdfJobStatus job = service.submit("s1@srms.test");
+		assertThat(service.findPdf(job.getId(), "s1@srms.test")).isEmpty();
+
+		release.countDown();
+		awaitIdle();
+
+		assertThat(service.findJob(job.getId(), "s1@srms.test")).get()
+				.extracting(PdfJobStatus::getState).isEqualTo(PdfJobStatus.State.COMPLETED);
+		assertThat(service.findPdf(job.getId(), "s1@srms.test")).get()
+				.extracting(ResultCardPdf::getFileName).isEqualTo("Result_1.pdf");
+		assertThat(service.findJob(job.getId(), "s2@srms.test")).isEmpty();
+		assertThat(service.findPdf(job.getId(), "s2@srms.test")).isEmpty();
+		verify(resultCardService, times(1)).getResultCard(any(), anyString());
+	}
+
+	private void awaitIdle() {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while ((executor.getActiveCount() > 0 || executor.getQueueSize() > 0) && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+	}
+}
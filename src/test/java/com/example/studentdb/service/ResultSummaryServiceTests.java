@@ -0,0 +1,115 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.entity.Mark;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.entity.StudentResultSummary;
+import com.example.studentdb.entity.Subject;
+import com.example.studentdb.entity.User;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.StudentResultSummaryRepository;
+import com.example.studentdb.repository.SubjectRepository;
+import com.example.studentdb.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ResultSummaryServiceTests {
+
+	private static final int WRITERS = 8;
+
+	@Autowired
+	private MarkService markService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private SubjectRepository subjectRepository;
+
+	@Autowired
+	private StudentResultSummaryRepository summaryRepository;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void concurrentRefreshesOfOneStudentNeitherCollideNorLoseAMark() throws Exception {
+		Student student = seedStudent("summary-concurrent@srms.test", "SUM-1");
+		List<Subject> subjects = new ArrayList<>();
+		for (int i = 0; i < WRITERS; i++) {
+			subjects.add(seedSubject("Summary Subject " + i));
+		}
+
+		// Every writer saves its own mark and refreshes the same summary row at the same moment
+		ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Mark>> saved = new ArrayList<>();
+		try {
+			for (int i = 0; i < WRITERS; i++) {
+				Mark mark = new Mark();
+				mark.setStudent(student);
+				mark.setSubject(subjects.get(i));
+				mark.setMarks(40 + i);
+				saved.add(writers.submit(() -> {
+					start.await();
+					return markService.save(mark);
+				}));
+			}
+			start.countDown();
+			for (Future<Mark> future : saved) {
+				// Rethrows a duplicate-key failure from any writer
+				assertThat(future.get(30, TimeUnit.SECONDS).getId()).isNotNull();
+			}
+		} finally {
+			writers.shutdownNow();
+		}
+
+		StudentResultSummary summary = summaryRepository.findById(student.getId()).orElseThrow();
+		assertThat(summary.getSubjectCount()).isEqualTo(WRITERS);
+		// 40 + 41 + ... + 47
+		assertThat(summary.getTotalMarks()).isEqualTo(348);
+		assertThat(summary.getMinMark()).isEqualTo(40);
+		assertThat(summary.getStatus()).isEqualTo("Pass");
+	}
+
+	private Subject seedSubject(String name) {
+		Subject subject = new Subject();
+		subject.setName(name);
+		return subjectRepository.save(subject);
+	}
+
+	private Student seedStudent(String email, String rollNumber) {
+		User user = new User();
+		user.setUsername(email);
+		user.setPassword("{noop}secret");
+		user.setRole("STUDENT");
+		userRepository.save(user);
+
+		Student student = new Student();
+		student.setName("Summary Student");
+		student.setEmail(email);
+		student.setRollNumber(rollNumber);
+		student.setUser(user);
+		studentRepository.save(student);
+		eventPublisher.publishEvent(StudentDataChangedEvent.created(List.of(student.getId())));
+		return student;
+	}
+}
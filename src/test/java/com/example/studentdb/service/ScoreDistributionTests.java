@@ -0,0 +1,52 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.ScoreBucket;
+import com.example.studentdb.dto.SubjectStatistics;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ScoreDistributionTests {
+
+	@Test
+	void matchesStatisticsOfTheExpandedMarks() {
+		// 20, 40, 40, 60, 60, 60, 100
+		ScoreDistribution distribution = new ScoreDistribution();
+		distribution.add(20, 1);
+		distribution.add(40, 2);
+		distribution.add(60, 3);
+		distribution.add(100, 1);
+
+		SubjectStatistics statistics = distribution.toStatistics(1L, "Maths");
+
+		assertThat(statistics.getCount()).isEqualTo(7);
+		assertThat(statistics.getMean()).isCloseTo(380 / 7.0, within(1e-9));
+		assertThat(statistics.getMedian()).isEqualTo(60);
+		double mean = 380 / 7.0;
+		double variance = (Math.pow(20 - mean, 2) + 2 * Math.pow(40 - mean, 2) + 3 * Math.pow(60 - mean, 2)
+				+ Math.pow(100 - mean, 2)) / 7;
+		assertThat(statistics.getStandardDeviation()).isCloseTo(Math.sqrt(variance), within(1e-9));
+		assertThat(statistics.getPassRate()).isCloseTo(600 / 7.0, within(1e-9));
+		assertThat(statistics.getHistogram()).extracting(ScoreBucket::getCount)
+				.containsExactly(0L, 0L, 1L, 0L, 2L, 0L, 3L, 0L, 0L, 1L);
+	}
+
+	@Test
+	void evenCountMedianAveragesTheMiddleMarks() {
+		ScoreDistribution distribution = new ScoreDistribution();
+		distribution.add(30, 2);
+		distribution.add(45, 2);
+
+		assertThat(distribution.toStatistics(1L, "Physics").getMedian()).isEqualTo(37.5);
+	}
+
+	@Test
+	void emptySubjectHasZeroedStatistics() {
+		SubjectStatistics statistics = new ScoreDistribution().toStatistics(1L, "Chemistry");
+
+		assertThat(statistics.getCount()).isZero();
+		assertThat(statistics.getMedian()).isZero();
+		assertThat(statistics.getHistogram()).hasSize(ScoreDistribution.BUCKETS);
+	}
+}
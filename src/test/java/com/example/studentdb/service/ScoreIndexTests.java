@@ -0,0 +1,68 @@
+package com.example.studentdb.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreIndexTests {
+
+	@Test
+	void equalScoresShareARank() {
+		ScoreIndex index = new ScoreIndex();
+		index.insert(1, 80);
+		index.insert(2, 90);
+		index.insert(3, 80);
+		index.insert(4, 70);
+
+		assertThat(index.rank(90)).isEqualTo(1);
+		assertThat(index.rank(80)).isEqualTo(2);
+		assertThat(index.rank(70)).isEqualTo(4);
+		assertThat(index.percentile(90)).isEqualTo(100.0);
+		assertThat(index.percentile(70)).isEqualTo(25.0);
+		// Ties are ordered by id
+		assertThat(index.idAt(1)).isEqualTo(1);
+		assertThat(index.idAt(2)).isEqualTo(3);
+	}
+
+	@Test
+	void incrementalUpdatesMatchABulkLoad() {
+		Random random = new Random(42);
+		ScoreIndex incremental = new ScoreIndex();
+		Map<Long, Integer> scores = new HashMap<>();
+
+		for (int step = 0; step < 5_000; step++) {
+			long id = random.nextInt(500);
+			Integer old = scores.remove(id);
+			if (old != null) {
+				incremental.remove(id, old);
+			}
+			if (random.nextInt(4) > 0) {
+				int score = random.nextInt(101);
+				scores.put(id, score);
+				incremental.insert(id, score);
+			}
+		}
+
+		long[] ids = scores.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+		int[] idScores = new int[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			idScores[i] = scores.get(ids[i]);
+		}
+		ScoreIndex loaded = new ScoreIndex();
+		loaded.load(ids, idScores, ids.length);
+
+		assertThat(incremental.size()).isEqualTo(scores.size());
+		for (int i = 0; i < loaded.size(); i++) {
+			assertThat(incremental.idAt(i)).isEqualTo(loaded.idAt(i));
+			assertThat(incremental.scoreAt(i)).isEqualTo(loaded.scoreAt(i));
+		}
+		for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+			long higher = scores.values().stream().filter(s -> s > entry.getValue()).count();
+			assertThat(loaded.rank(entry.getValue())).isEqualTo(higher + 1);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.BulkJobStatus;
+import com.example.studentdb.dto.StudentOnboardingRow;
+import com.example.studentdb.entity.Student;
+import com.example.studentdb.repository.StudentRepository;
+import com.example.studentdb.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudentOnboardingServiceTests {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private ThreadPoolTaskExecutor bulkExecutor;
+	private ThreadPoolTaskExecutor hashingExecutor;
+	private StudentOnboardingService service;
+
+	@BeforeEach
+	void setUp() {
+		// One worker and one queue slot
+		bulkExecutor = new ThreadPoolTaskExecutor();
+		bulkExecutor.setCorePoolSize(1);
+		bulkExecutor.setMaxPoolSize(1);
+		bulkExecutor.setQueueCapacity(1);
+		bulkExecutor.initialize();
+		hashingExecutor = new ThreadPoolTaskExecutor();
+		hashingExecutor.setCorePoolSize(1);
+		hashingExecutor.setMaxPoolSize(1);
+		hashingExecutor.setQueueCapacity(1);
+		hashingExecutor.initialize();
+
+		PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+		when(passwordEncoder.encode(any())).thenReturn("{noop}hash");
+		service = new StudentOnboardingService(mock(StudentRepository.class), userRepository, passwordEncoder,
+				transactionTemplate, hashingExecutor, bulkExecutor, mock(ApplicationEventPublisher.class),
+				mock(UserCache.class));
+
+		// Each job's first lookup holds the worker until the test releases it
+		when(userRepository.findExistingUsernames(any())).thenAnswer(invocation -> {
+			release.await(10, TimeUnit.SECONDS);
+			return List.of();
+		});
+		when(transactionTemplate.execute(any())).thenReturn(List.of());
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		bulkExecutor.shutdown();
+		hashingExecutor.shutdown();
+	}
+
+	@Test
+	void fullQueueIsRejectedAndTheAcceptedJobsStillRun() {
+		BulkJobStatus running = service.startBulkOnboarding(rows("one"));
+		BulkJobStatus queued = service.startBulkOnboarding(rows("two"));
+
+		assertThatThrownBy(() -> service.startBulkOnboarding(rows("three")))
+				.isInstanceOf(TaskRejectedException.class);
+
+		release.countDown();
+		awaitIdle();
+		for (BulkJobStatus job : List.of(running, queued)) {
+			assertThat(service.findJob(job.getId())).get()
+					.extracting(BulkJobStatus::getState).isEqualTo(BulkJobStatus.State.COMPLETED);
+		}
+		// Room again once the queue has drained
+		assertThat(service.startBulkOnboarding(rows("four")).getTotal()).isEqualTo(1);
+	}
+
+	@Test
+	void fullHashingQueueRefusesASingleSaveButBulkJobsHashOnTheirOwnWorker() {
+		CountDownLatch hashingBusy = new CountDownLatch(1);
+		try {
+			// The hashing worker and its queue slot
+			for (int i = 0; i < 2; i++) {
+				hashingExecutor.execute(() -> await(hashingBusy));
+			}
+			assertThatThrownBy(() -> service.createStudent(new Student()))
+					.isInstanceOf(TaskRejectedException.class);
+
+			release.countDown();
+			BulkJobStatus job = service.startBulkOnboarding(rows("five"));
+			awaitIdle();
+			// Finished while the hashing pool is still blocked, so the bulk worker hashed the row itself
+			assertThat(job.getState()).isEqualTo(BulkJobStatus.State.COMPLETED);
+			assertThat(job.getSucceeded()).isEqualTo(1);
+		} finally {
+			hashingBusy.countDown();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static List<StudentOnboardingRow> rows(String name) {
+		return List.of(new StudentOnboardingRow(name, name + "@srms.test", "ONB-" + name));
+	}
+
+	private void awaitIdle() {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while ((bulkExecutor.getActiveCount() > 0 || bulkExecutor.getQueueSize() > 0) && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.example.studentdb.service;
+
+import com.example.studentdb.dto.StudentSuggestion;
+import com.example.studentdb.event.StudentDataChangedEvent;
+import com.example.studentdb.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudentSearchIndexTests {
+
+	private StudentRepository studentRepository;
+	private StudentSearchIndex index;
+
+	@BeforeEach
+	void buildIndex() {
+		studentRepository = mock(StudentRepository.class);
+		when(studentRepository.findAllSuggestions()).thenReturn(List.of(
+				new StudentSuggestion(3L, "Ananya Sen", "ananya@tiu.edu", "CSE-003"),
+				new StudentSuggestion(1L, "Rahul Das", "rahul.das@tiu.edu", "CSE-001"),
+				new StudentSuggestion(2L, "Priya Dasgupta", "priya@tiu.edu", "ECE-002")));
+		index = new StudentSearchIndex(studentRepository);
+		index.rebuild();
+	}
+
+	@Test
+	void matchesSubstringsOfAnyFieldIgnoringCase() {
+		assertThat(index.search("DAS")).containsExactly(1L, 2L);
+		assertThat(index.search("cse-00")).containsExactly(1L, 3L);
+		assertThat(index.search("@tiu")).containsExactly(1L, 2L, 3L);
+		assertThat(index.search("an")).containsExactly(3L);
+		assertThat(index.search("dasx")).isEmpty();
+	}
+
+	@Test
+	void trigramsMustBeContiguous() {
+		// "sen" and "ana" are both indexed for student 3, but "sena" does not occur
+		assertThat(index.search("sena")).isEmpty();
+	}
+
+	@Test
+	void suggestionsPutPrefixMatchesFirst() {
+		assertThat(index.suggest("pri", 10)).extracting(StudentSuggestion::getId).containsExactly(2L);
+		assertThat(index.suggest("das", 10)).extracting(StudentSuggestion::getId).containsExactly(1L, 2L);
+		assertThat(index.suggest("a", 2)).extracting(StudentSuggestion::getId).containsExactly(3L, 1L);
+	}
+
+	@Test
+	void followsCreatesUpdatesAndDeletes() {
+		when(studentRepository.findSuggestions(Set.of(4L)))
+				.thenReturn(List.of(new StudentSuggestion(4L, "Rohit Das", "rohit@tiu.edu", "ME-004")));
+		index.onStudentDataChanged(StudentDataChangedEvent.created(List.of(4L)));
+		assertThat(index.search("das")).containsExactly(1L, 2L, 4L);
+
+		when(studentRepository.findSuggestions(Set.of(1L)))
+				.thenReturn(List.of(new StudentSuggestion(1L, "Rahul Roy", "rahul.roy@tiu.edu", "CSE-001")));
+		index.onStudentDataChanged(StudentDataChangedEvent.profile(1L));
+		assertThat(index.search("das")).containsExactly(2L, 4L);
+		assertThat(index.search("roy")).containsExactly(1L);
+
+		index.onStudentDataChanged(StudentDataChangedEvent.deleted(2L));
+		assertThat(index.search("das")).containsExactly(4L);
+	}
+}